@@ -0,0 +1,51 @@
+package com.github.arachnidium.model.abstractions;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Child objects of a {@link ModelObject}. They are weakly referenced. So
+ * parts which are not used anymore (e.g. results of <code>getPart</code>
+ * and elements of rebuilt lists) can be collected. References of collected
+ * and detached children are removed when the list becomes twice as long as
+ * after the previous removal.
+ */
+final class ChildObjects {
+	private static final int MIN_EXPUNGE_THRESHOLD = 16;
+
+	private final List<WeakReference<ModelObject<?>>> references = new ArrayList<WeakReference<ModelObject<?>>>();
+	private int expungeThreshold = MIN_EXPUNGE_THRESHOLD;
+
+	/**
+	 * @return the reference which should be cleared when the child is
+	 *         detached
+	 */
+	synchronized WeakReference<ModelObject<?>> add(ModelObject<?> child) {
+		if (references.size() >= expungeThreshold) {
+			references.removeIf((reference) -> reference.get() == null);
+			expungeThreshold = Math.max(MIN_EXPUNGE_THRESHOLD,
+					references.size() * 2);
+		}
+		WeakReference<ModelObject<?>> reference = new WeakReference<ModelObject<?>>(
+				child);
+		references.add(reference);
+		return reference;
+	}
+
+	/**
+	 * @return children which are still alive. The list is cleared.
+	 */
+	synchronized List<ModelObject<?>> removeAll() {
+		List<ModelObject<?>> result = new ArrayList<ModelObject<?>>();
+		for (WeakReference<ModelObject<?>> reference : references) {
+			ModelObject<?> child = reference.get();
+			if (child != null) {
+				result.add(child);
+			}
+		}
+		references.clear();
+		expungeThreshold = MIN_EXPUNGE_THRESHOLD;
+		return result;
+	}
+}
@@ -17,10 +17,9 @@
 
 package com.github.arachnidium.model.abstractions;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Proxy;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -94,9 +93,10 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 						throw t;
 					});
 
-	@SuppressWarnings("rawtypes")
-	final List<ModelObject> children = Collections
-			.synchronizedList(new ArrayList<ModelObject>());
+	// children are weakly referenced. See ChildObjects
+	final ChildObjects children = new ChildObjects();
+	// it is cleared when this object is detached from the parent
+	private WeakReference<ModelObject<?>> referenceOfParent;
 
 	/**
 	 * This is the general constructor.
@@ -128,12 +128,25 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	}
 
 	/**
-	 * Adds the child object
+	 * Adds the child object. The child is weakly referenced. So it can be 
+	 * collected when it is not used anymore. If some {@link ModelScope} is 
+	 * open on the current thread then the child belongs to it.
 	 * 
 	 * @param child is the child {@link ModelObject}
 	 */
 	protected void addChild(ModelObject<?> child) {
-		children.add(child);
+		child.referenceOfParent = children.add(child);
+		ModelScope.register(child);
+	}
+
+	/**
+	 * Removes this object from children of the parent
+	 */
+	final void detach() {
+		WeakReference<ModelObject<?>> reference = referenceOfParent;
+		if (reference != null) {
+			reference.clear();
+		}
 	}
 
 	/**
@@ -165,9 +178,8 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	 */
 	@Override
 	public void destroy() {
-		for (ModelObject<?> child : children)
+		for (ModelObject<?> child : children.removeAll())
 			child.destroy();
-		children.clear();
 	}
 
 	/**
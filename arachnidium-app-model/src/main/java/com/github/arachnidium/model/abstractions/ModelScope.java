@@ -0,0 +1,85 @@
+package com.github.arachnidium.model.abstractions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The scope of model objects which are created by the current thread. When
+ * the scope is closed these objects are detached from their parents and
+ * destroyed. They should not be used after that.<br/>
+ * <br/>
+ * Children are weakly referenced by parents anyway. So unused parts are
+ * collected without scopes. A scope makes it deterministic, e.g. for each
+ * iteration of a long loop.<br/>
+ * <br/>
+ * Usage:<br/>
+ * <code>try (ModelScope scope = ModelScope.open()) {<br/>
+ * SomePart part = application.getPart(SomePart.class);<br/>
+ * ...<br/>
+ * }</code><br/>
+ * <br/>
+ * Scopes can be nested. They should be closed in the reverse order by the
+ * thread which has opened them.
+ */
+public final class ModelScope implements AutoCloseable {
+	private static final ThreadLocal<ModelScope> current = new ThreadLocal<ModelScope>();
+
+	private final ModelScope outer;
+	private final List<ModelObject<?>> objects = new ArrayList<ModelObject<?>>();
+
+	private ModelScope(ModelScope outer) {
+		this.outer = outer;
+	}
+
+	/**
+	 * Opens the new scope on the current thread
+	 *
+	 * @return the opened {@link ModelScope}
+	 */
+	public static ModelScope open() {
+		ModelScope scope = new ModelScope(current.get());
+		current.set(scope);
+		return scope;
+	}
+
+	/**
+	 * Adds the created object to the scope which is open on the current
+	 * thread. If there is no open scope nothing happens
+	 */
+	static void register(ModelObject<?> object) {
+		ModelScope scope = current.get();
+		if (scope != null) {
+			scope.objects.add(object);
+		}
+	}
+
+	/**
+	 * @return count of objects which have been created in the scope
+	 */
+	public int size() {
+		return objects.size();
+	}
+
+	/**
+	 * Detaches and destroys objects which have been created in the scope.
+	 * The outer scope becomes open.
+	 */
+	@Override
+	public void close() {
+		if (current.get() != this) {
+			throw new IllegalStateException(
+					"Scopes should be closed in the reverse order by the thread which has opened them");
+		}
+		if (outer == null) {
+			current.remove();
+		} else {
+			current.set(outer);
+		}
+		for (int i = objects.size() - 1; i >= 0; i--) {
+			ModelObject<?> object = objects.get(i);
+			object.detach();
+			object.destroy();
+		}
+		objects.clear();
+	}
+}
@@ -18,6 +18,8 @@ import org.openqa.selenium.SearchContext;
 
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -172,7 +174,15 @@ class DecomposableListInterceptor implements MethodInterceptor {
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
-		return method.invoke(buildList(), args);
+		Object event = FlightRecorderEvents.begin(Operation.LIST_MATERIALIZATION);
+		List<IDecomposable> list = null;
+		try {
+			list = buildList();
+		} finally {
+			FlightRecorderEvents.end(event, required.getName(),
+					list == null ? 0 : list.size());
+		}
+		return method.invoke(list, args);
 	}
 
 }
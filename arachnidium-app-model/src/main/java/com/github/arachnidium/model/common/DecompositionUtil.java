@@ -21,6 +21,8 @@ import org.openqa.selenium.WebDriver;
 import com.github.arachnidium.core.HowToGetPage;
 import com.github.arachnidium.core.HowToGetMobileScreen;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -51,6 +53,7 @@ abstract class DecompositionUtil {
 	 */
 	static <T extends IDecomposable> T get(Class<T> partClass,
 			Object[] paramValues) {
+		Object event = FlightRecorderEvents.begin(Operation.GET_PART);
 		try{
 			Constructor<?> c = ExecutableUtil.getRelevantConstructor(partClass, paramValues);
 			if (c == null){
@@ -67,7 +70,10 @@ abstract class DecompositionUtil {
 		}
 		catch (Exception e){
 			throw new RuntimeException(e);
-		}		
+		}
+		finally {
+			FlightRecorderEvents.end(event, partClass.getName());
+		}
 	}
 	
 	/**
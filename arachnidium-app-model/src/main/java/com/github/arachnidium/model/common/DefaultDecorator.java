@@ -6,9 +6,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.concurrent.TimeUnit;
 
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+
 import org.openqa.selenium.SearchContext;
 
 import com.github.arachnidium.model.interfaces.IDecomposable;
+import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 
 class DefaultDecorator extends AppiumFieldDecorator {
 	private final IDecomposable decomposable;
@@ -25,6 +29,13 @@ class DefaultDecorator extends AppiumFieldDecorator {
 	
 	public Object decorate(ClassLoader ignored, Field field) {
 		Object result = super.decorate(ignored, field);
+		if (result instanceof Factory) {
+			// element proxies of Appium intercept finalize() and look for
+			// the element on the finalizer thread
+			Factory proxy = (Factory) result;
+			proxy.setCallback(0, EnhancedProxyFactory
+					.notFinalizing((MethodInterceptor) proxy.getCallback(0)));
+		}
 		if (result != null)
 			return result;
 		
@@ -25,6 +25,7 @@ import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.FieldDecorator;
 
 import com.github.arachnidium.core.BrowserWindow;
+import com.github.arachnidium.core.CommandSerializer;
 import com.github.arachnidium.core.Handle;
 import com.github.arachnidium.core.HowToGetPage;
 import com.github.arachnidium.core.HowToGetMobileScreen;
@@ -34,9 +35,13 @@ import com.github.arachnidium.core.components.common.ScriptExecutor;
 import com.github.arachnidium.core.components.common.TimeOut;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
-import com.github.arachnidium.core.highlighting.WebElementHighLighter;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
 import com.github.arachnidium.core.interfaces.ITakesPictureOfItSelf;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
+import com.github.arachnidium.core.profiling.Phase;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
+import com.github.arachnidium.core.profiling.TraceTrack;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
 import com.github.arachnidium.model.support.HowToGetByFrames;
@@ -294,10 +299,7 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 	}
 
 	private IWebElementHighlighter getHighlighter() {
-		WebElementHighLighter highLighter = new WebElementHighLighter();
-		highLighter.resetAccordingTo(getWebDriverEncapsulation()
-				.getWrappedConfiguration());
-		return highLighter;
+		return getWebDriverEncapsulation().getHighlighter();
 	}
 
 	/**
@@ -485,15 +487,33 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 	 * switching from one frame to another
 	 */
 	@Override
-	public synchronized void switchToMe() {
-		// firstly we should switch parent browser window on
-		if (parent != null)
-			parent.switchToMe();
-		else
-			handle.switchToMe();
-		if (pathStrategy != null)
-			pathStrategy.switchTo(getWrappedDriver());
-		return;
+	public void switchToMe() {
+		CommandSerializer serializer = getWebDriverEncapsulation()
+				.getCommandSerializer();
+		Phase previous = PhaseProfiler.enter(Phase.SWITCH_TO_ME);
+		serializer.lock();
+		try {
+			// firstly we should switch parent browser window on
+			if (parent != null)
+				parent.switchToMe();
+			else
+				handle.switchToMe();
+			if (pathStrategy != null) {
+				TraceTrack trace = getWebDriverEncapsulation().getTraceTrack();
+				Object event = FlightRecorderEvents.begin(Operation.FRAME_SWITCH);
+				long startedAt = trace.begin();
+				try {
+					pathStrategy.switchTo(getWrappedDriver());
+					trace.setActiveFrame(pathStrategy);
+				} finally {
+					trace.end(startedAt, "switch", "switch to frame", pathStrategy);
+					FlightRecorderEvents.end(event, pathStrategy);
+				}
+			}
+		} finally {
+			serializer.unlock();
+			PhaseProfiler.exit(previous);
+		}
 	}
 
 	/**
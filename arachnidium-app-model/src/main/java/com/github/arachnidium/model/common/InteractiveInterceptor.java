@@ -5,6 +5,9 @@ import java.util.concurrent.TimeUnit;
 
 import net.sf.cglib.proxy.MethodProxy;
 
+import com.github.arachnidium.core.CommandSerializer;
+import com.github.arachnidium.core.profiling.Phase;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObjectInterceptor;
 import com.github.arachnidium.model.common.FunctionalPart.InteractiveMethod;
@@ -31,17 +34,78 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 	
 	private static void resetTimeOut(FunctionalPart<?> funcPart,
 			long timeOutValue, TimeUnit timeUnit) {
-		funcPart.getTimeOut().implicitlyWait(timeOutValue, timeUnit);
-		if (funcPart.defaultFieldDecorator != null)
-			funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(timeOutValue,
-					timeUnit);
+		Phase previous = PhaseProfiler.enter(Phase.IMPLICIT_WAIT);
+		try {
+			funcPart.getTimeOut().implicitlyWait(timeOutValue, timeUnit);
+			if (funcPart.defaultFieldDecorator != null)
+				funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(
+						timeOutValue, timeUnit);
+		} finally {
+			PhaseProfiler.exit(previous);
+		}
+	}
+	
+	private static String getProfiledName(FunctionalPart<?> funcPart,
+			Method method, Object[] args) {
+		Class<?> partClass = funcPart.getClass();
+		// it is the proxy class. The described class is needed
+		while (partClass.getName().contains("$$")) {
+			partClass = partClass.getSuperclass();
+		}
+		String name = partClass.getName() + "#" + method.getName();
+		if (method.getName().equals(DecompositionUtil.GET_PART)) {
+			name = name + "("
+					+ DecompositionUtil.extractTargetFromGetPart(method, args)
+							.getSimpleName() + ")";
+		}
+		return name;
 	}
 
+	/**
+	 * Methods which are marked by {@link InteractiveMethod} are invoked 
+	 * under the {@link CommandSerializer} of the session. So switching 
+	 * to the part and resetting of time outs are not interleaved with 
+	 * commands of other threads. Other methods are invoked without the lock.<br/>
+	 * <br/>
+	 * When {@link PhaseProfiler} is enabled, these methods and 
+	 * <code>getPart</code> are profiled
+	 */
 	@Override
-	public synchronized Object intercept(Object object, Method method,
+	public Object intercept(Object object, Method method,
 			Object[] args, MethodProxy methodProxy) throws Throwable {
-
 		FunctionalPart<?> funcPart = (FunctionalPart<?>) object;
+		if (!PhaseProfiler.IS_ENABLED
+				|| (!method.isAnnotationPresent(InteractiveMethod.class) && !method
+						.getName().equals(DecompositionUtil.GET_PART))) {
+			return serializeAndIntercept(funcPart, method, args, methodProxy);
+		}
+		funcPart.getWebDriverEncapsulation().getPhaseProfiler()
+				.begin(getProfiledName(funcPart, method, args));
+		try {
+			return serializeAndIntercept(funcPart, method, args, methodProxy);
+		} finally {
+			PhaseProfiler.end();
+		}
+	}
+	
+	private Object serializeAndIntercept(FunctionalPart<?> funcPart,
+			Method method, Object[] args, MethodProxy methodProxy)
+			throws Throwable {
+		if (!method.isAnnotationPresent(InteractiveMethod.class)) {
+			return doIntercept(funcPart, method, args, methodProxy);
+		}
+		CommandSerializer serializer = funcPart.getWebDriverEncapsulation()
+				.getCommandSerializer();
+		serializer.lock();
+		try {
+			return doIntercept(funcPart, method, args, methodProxy);
+		} finally {
+			serializer.unlock();
+		}
+	}
+	
+	private Object doIntercept(FunctionalPart<?> funcPart, Method method,
+			Object[] args, MethodProxy methodProxy) throws Throwable {
 		long timeOut = 0;
 		TimeUnit timeUnit = null;
 		
@@ -49,21 +113,26 @@ class InteractiveInterceptor extends ModelObjectInterceptor {
 		if (method.isAnnotationPresent(InteractiveMethod.class)) {
 			funcPart.switchToMe();
 			
-			timeOut = funcPart.getTimeOut().getImplicitlyWaitTimeOut();
-			timeUnit = funcPart.getTimeOut().getImplicitlyWaitTimeUnit();
-			
-			if (funcPart.defaultFieldDecorator != null)
-				funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(timeOut,
-						timeUnit);
-			
-			// if there is customized time out
-			if (method.isAnnotationPresent(WithImplicitlyWait.class)) {				
-				WithImplicitlyWait withImplicitlyWait = method
-						.getAnnotation(WithImplicitlyWait.class);
-				long customTimeOut = withImplicitlyWait.timeOut();
-				TimeUnit customTimeUnit = withImplicitlyWait.timeUnit();
-				resetTimeOut(funcPart, customTimeOut, customTimeUnit);
-				timeOutIsChanged = true;
+			Phase previous = PhaseProfiler.enter(Phase.IMPLICIT_WAIT);
+			try {
+				timeOut = funcPart.getTimeOut().getImplicitlyWaitTimeOut();
+				timeUnit = funcPart.getTimeOut().getImplicitlyWaitTimeUnit();
+				
+				if (funcPart.defaultFieldDecorator != null)
+					funcPart.defaultFieldDecorator.resetImplicitlyWaitTimeOut(
+							timeOut, timeUnit);
+				
+				// if there is customized time out
+				if (method.isAnnotationPresent(WithImplicitlyWait.class)) {				
+					WithImplicitlyWait withImplicitlyWait = method
+							.getAnnotation(WithImplicitlyWait.class);
+					long customTimeOut = withImplicitlyWait.timeOut();
+					TimeUnit customTimeUnit = withImplicitlyWait.timeUnit();
+					resetTimeOut(funcPart, customTimeOut, customTimeUnit);
+					timeOutIsChanged = true;
+				}
+			} finally {
+				PhaseProfiler.exit(previous);
 			}
 		}
 
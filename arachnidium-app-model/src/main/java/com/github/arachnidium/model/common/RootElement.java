@@ -15,6 +15,8 @@ import org.openqa.selenium.internal.WrapsElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.FluentWait;
 
+import com.github.arachnidium.core.profiling.Phase;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
 import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 import com.google.common.base.Function;
 
@@ -65,20 +67,25 @@ class RootElement implements WrapsElement {
 				return driver;
 			}
 			
-			functionalPart.switchToMe();
-			Timeouts t = driver.manage().timeouts();
-			t.implicitlyWait(0, TimeUnit.SECONDS);
 			WebElement root = null;
+			Phase previous = PhaseProfiler.enter(Phase.ROOT_ELEMENT);
 			try {
-				FluentWait<By> wait = new FluentWait<By>(by);
-				wait.withTimeout(timeValue, timeUnit);
-				wait.pollingEvery(POLLING_EVERY, TimeUnit.MILLISECONDS);
-				root = wait.until(getWaitForTheRootElementFunction());
-			} catch (TimeoutException e) {
-				throw new NoSuchElementException(
-						"Cann't locate the root element by " + by.toString(), e);
+				functionalPart.switchToMe();
+				Timeouts t = driver.manage().timeouts();
+				t.implicitlyWait(0, TimeUnit.SECONDS);
+				try {
+					FluentWait<By> wait = new FluentWait<By>(by);
+					wait.withTimeout(timeValue, timeUnit);
+					wait.pollingEvery(POLLING_EVERY, TimeUnit.MILLISECONDS);
+					root = wait.until(getWaitForTheRootElementFunction());
+				} catch (TimeoutException e) {
+					throw new NoSuchElementException(
+							"Cann't locate the root element by " + by.toString(), e);
+				} finally {
+					t.implicitlyWait(timeValue, timeUnit);
+				}
 			} finally {
-				t.implicitlyWait(timeValue, timeUnit);
+				PhaseProfiler.exit(previous);
 			}
 
 			return method.invoke(root, args);
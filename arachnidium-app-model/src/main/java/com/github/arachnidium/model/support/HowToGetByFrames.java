@@ -88,4 +88,12 @@ public class HowToGetByFrames {
 	public List<Object> getFramePath() {
 		return framePath;
 	}
+
+	/**
+	 * @return the frame path, e.g. <code>[0, By.id: frame]</code>
+	 */
+	@Override
+	public String toString() {
+		return framePath.toString();
+	}
 }
@@ -0,0 +1,127 @@
+package com.github.arachnidium.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import net.sf.cglib.proxy.MethodProxy;
+
+import org.openqa.selenium.WebDriver;
+
+import com.github.arachnidium.core.components.ComponentFactory;
+import com.github.arachnidium.core.components.WebdriverComponent;
+import com.github.arachnidium.util.proxy.DefaultInterceptor;
+import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
+
+/**
+ * The dispatch of {@link WebdriverComponent} methods to their delegates:<br/>
+ * - <code>componentProxy</code> is the call of the component proxy which is
+ * created by {@link ComponentFactory}. It is dispatched by the cached 
+ * {@link java.lang.invoke.MethodHandle};<br/>
+ * - <code>directCall</code> is the same call of the delegate by its
+ * interface;<br/>
+ * - <code>getMethodAndInvoke</code> is the dispatch which was used before: 
+ * {@link Class#getMethod(String, Class...)} and 
+ * {@link Method#invoke(Object, Object...)} on each call;<br/>
+ * - <code>reflectiveComponentProxy</code> is the component proxy whose
+ * interceptor does the same. It was the path of each component call
+ * before.<br/>
+ * <br/>
+ * The delegate doesn't send anything to the remote end. So the pure cost of 
+ * the dispatch is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentDispatchBenchmark {
+
+	public interface Adder {
+		int add(int a, int b);
+	}
+
+	public static class AdderImpl implements Adder {
+		@Override
+		public int add(int a, int b) {
+			return a + b;
+		}
+	}
+
+	/**
+	 * The component like {@link com.github.arachnidium.core.components.common.ScriptExecutor}
+	 * whose methods are implemented by the delegate
+	 */
+	public static abstract class AdderTool extends WebdriverComponent
+			implements Adder {
+		public AdderTool(WebDriver driver) {
+			super(driver);
+			delegate = new AdderImpl();
+		}
+
+		static Object delegateOf(Object tool) {
+			return ((AdderTool) tool).delegate;
+		}
+	}
+
+	// the interceptor which was used by ComponentFactory before
+	private static class ReflectiveInterceptor extends DefaultInterceptor {
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args,
+				MethodProxy proxy) throws Throwable {
+			Object realObject = AdderTool.delegateOf(obj);
+			Method realMethod = realObject.getClass().getMethod(
+					method.getName(), method.getParameterTypes());
+			return realMethod.invoke(realObject, args);
+		}
+	}
+
+	private Adder component;
+	private Adder reflectiveComponent;
+	private Adder delegate;
+	private int value;
+
+	@Setup(Level.Trial)
+	public void createComponent() {
+		component = ComponentFactory.getComponent(AdderTool.class, null);
+		reflectiveComponent = EnhancedProxyFactory.getProxy(AdderTool.class,
+				new Class<?>[] { WebDriver.class }, new Object[] { null },
+				new ReflectiveInterceptor());
+		delegate = new AdderImpl();
+	}
+
+	@Benchmark
+	public int componentProxy() {
+		return component.add(value++, 1);
+	}
+
+	@Benchmark
+	public int reflectiveComponentProxy() {
+		return reflectiveComponent.add(value++, 1);
+	}
+
+	@Benchmark
+	public int directCall() {
+		return delegate.add(value++, 1);
+	}
+
+	@Benchmark
+	public Object getMethodAndInvoke() throws NoSuchMethodException,
+			IllegalAccessException, InvocationTargetException {
+		Method method = delegate.getClass().getMethod("add", int.class,
+				int.class);
+		return method.invoke(delegate, value++, 1);
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.arachnidium.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.model.FakeSearchForm;
+import com.github.arachnidium.core.WebDriverEncapsulation;
+
+/**
+ * The model tree of <code>parts</code> parts. Each part asks for 
+ * {@link com.github.arachnidium.core.components.common.DriverLogs}, 
+ * {@link com.github.arachnidium.core.components.common.ScriptExecutor} and 
+ * {@link com.github.arachnidium.core.components.common.Ime}. They are shared 
+ * by the session (<code>shared</code>) or they are created for each part 
+ * (<code>perCall</code>, see {@link WebDriverEncapsulation#SHARED_COMPONENTS_PROPERTY}).<br/>
+ * <br/>
+ * Allocations are shown by <code>-prof gc</code> 
+ * (<code>gc.alloc.rate.norm</code> is per tree). The heap which is retained 
+ * by the tree is reported by <code>retainedKB</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ComponentSharingBenchmark {
+
+	@Param({ "100" })
+	public int parts;
+
+	/**
+	 * The used heap after garbage collection is sampled before and after the 
+	 * tree is built
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedHeap {
+		public long retainedKB;
+		private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		private long before;
+		List<Object> tree;
+
+		private long getUsedHeap() {
+			System.gc();
+			System.gc();
+			return memory.getHeapMemoryUsage().getUsed();
+		}
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedKB = 0;
+		}
+
+		@Setup(Level.Invocation)
+		public void sampleBefore() {
+			tree = null;
+			before = getUsedHeap();
+		}
+
+		@TearDown(Level.Invocation)
+		public void sampleAfter() {
+			retainedKB += (getUsedHeap() - before) / 1024;
+			tree = null;
+		}
+	}
+
+	private List<Object> buildTree(FakeSession session, RetainedHeap heap) {
+		List<Object> tree = new ArrayList<Object>(parts);
+		for (int i = 0; i < parts; i++) {
+			tree.add(session.browser.getPart(FakeSearchForm.class));
+		}
+		heap.tree = tree;
+		return tree;
+	}
+
+	@Benchmark
+	@Fork(1)
+	public List<Object> shared(FakeSession session, RetainedHeap heap) {
+		return buildTree(session, heap);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-D"
+			+ WebDriverEncapsulation.SHARED_COMPONENTS_PROPERTY + "=false")
+	public List<Object> perCall(FakeSession session, RetainedHeap heap) {
+		return buildTree(session, heap);
+	}
+}
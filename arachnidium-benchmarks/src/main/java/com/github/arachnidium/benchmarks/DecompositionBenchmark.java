@@ -0,0 +1,41 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.model.FakePage;
+import com.github.arachnidium.benchmarks.model.FakeSearchForm;
+
+/**
+ * <code>getPart</code>: the CGLIB proxy of the part, its element fields and 
+ * the population of {@link com.github.arachnidium.model.common.Static} fields.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecompositionBenchmark {
+
+	@Benchmark
+	public Object getPart(FakeSession session, RemoteCommands commands) {
+		Object result = session.browser.getPart(FakeSearchForm.class);
+		commands.count(session.executor);
+		return result;
+	}
+
+	@Benchmark
+	public Object getPartWithStaticFields(FakeSession session,
+			RemoteCommands commands) {
+		Object result = session.browser.getPart(FakePage.class);
+		commands.count(session.executor);
+		return result;
+	}
+}
@@ -0,0 +1,55 @@
+package com.github.arachnidium.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.LogManager;
+
+import com.github.arachnidium.util.logging.Photographer;
+
+/**
+ * Prepares the JVM of a benchmark before anything of the framework is loaded:<br/>
+ * - default settings are taken from <code>benchmark-settings.json</code> 
+ * unless the <code>arachnidium.settings</code> system property is defined;<br/>
+ * - handlers of java.util.logging are removed. So log records are created 
+ * and converted but they are not printed;<br/>
+ * - screenshots are saved to a temporary folder.
+ */
+final class FakeEnvironment {
+	private static final String SETTINGS_RESOURCE = "benchmark-settings.json";
+	private static final String SETTINGS_PROPERTY = "arachnidium.settings";
+
+	static {
+		try {
+			if (System.getProperty(SETTINGS_PROPERTY) == null) {
+				File settings = File.createTempFile("arachnidium-benchmark",
+						".json");
+				settings.deleteOnExit();
+				try (InputStream is = FakeEnvironment.class.getClassLoader()
+						.getResourceAsStream(SETTINGS_RESOURCE)) {
+					Files.copy(is, settings.toPath(),
+							StandardCopyOption.REPLACE_EXISTING);
+				}
+				System.setProperty(SETTINGS_PROPERTY, settings.getAbsolutePath());
+			}
+			LogManager.getLogManager().reset();
+			Photographer.setCommonOutputFolder(Files.createTempDirectory(
+					"arachnidium-benchmark-pictures").toString()
+					+ File.separator);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private FakeEnvironment() {
+		super();
+	}
+
+	/**
+	 * Does nothing. It makes sure that the environment is prepared
+	 */
+	static void prepare() {
+	}
+}
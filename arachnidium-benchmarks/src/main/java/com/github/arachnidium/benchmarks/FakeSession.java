@@ -0,0 +1,46 @@
+package com.github.arachnidium.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+import com.github.arachnidium.benchmarks.fake.FakeDom;
+import com.github.arachnidium.benchmarks.model.FakeBrowser;
+import com.github.arachnidium.model.common.FakeApplicationFactory;
+
+/**
+ * The session which is started once per trial over the fake remote end.
+ * Commands are delayed by <code>latencyMicros</code>.
+ */
+@State(Scope.Thread)
+public class FakeSession {
+	@Param({ "0" })
+	public long latencyMicros;
+
+	@Param({ "10" })
+	public int listSize;
+
+	FakeCommandExecutor executor;
+	FakeBrowser browser;
+
+	static FakeCommandExecutor newExecutor(int listSize, long latencyMicros) {
+		FakeEnvironment.prepare();
+		return new FakeCommandExecutor(new FakeDom(listSize),
+				latencyMicros * 1000);
+	}
+
+	@Setup(Level.Trial)
+	public void start() {
+		executor = newExecutor(listSize, latencyMicros);
+		browser = new FakeApplicationFactory(executor).launch(FakeBrowser.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void quit() {
+		browser.quit();
+	}
+}
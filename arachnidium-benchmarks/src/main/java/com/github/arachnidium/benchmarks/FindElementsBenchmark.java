@@ -0,0 +1,82 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+import com.github.arachnidium.benchmarks.model.FakeBrowser;
+import com.github.arachnidium.model.common.FakeApplicationFactory;
+
+/**
+ * <code>findElements</code> through the listenable driver. Found lists are 
+ * big (e.g. rows of a table) and only some of their elements are used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindElementsBenchmark {
+	private static final By ROWS = By.tagName("tr");
+
+	@Param({ "1000", "10000" })
+	public int listSize;
+
+	private FakeCommandExecutor executor;
+	private FakeBrowser browser;
+	private WebDriver driver;
+
+	@Setup(Level.Trial)
+	public void start() {
+		executor = FakeSession.newExecutor(listSize, 0);
+		browser = new FakeApplicationFactory(executor).launch(FakeBrowser.class);
+		driver = browser.getWrappedDriver();
+	}
+
+	@TearDown(Level.Trial)
+	public void quit() {
+		browser.quit();
+	}
+
+	@Benchmark
+	public int find(RemoteCommands commands) {
+		int result = driver.findElements(ROWS).size();
+		commands.count(executor);
+		return result;
+	}
+
+	@Benchmark
+	public String findAndReadFirst(RemoteCommands commands) {
+		String result = driver.findElements(ROWS).get(0).getTagName();
+		commands.count(executor);
+		return result;
+	}
+
+	@Benchmark
+	public void findAndTouchAll(RemoteCommands commands, Blackhole blackhole) {
+		List<WebElement> elements = driver.findElements(ROWS);
+		for (WebElement element : elements) {
+			blackhole.consume(element);
+		}
+		commands.count(executor);
+	}
+}
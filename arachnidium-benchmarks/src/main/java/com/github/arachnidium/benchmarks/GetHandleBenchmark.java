@@ -0,0 +1,79 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+import com.github.arachnidium.benchmarks.model.FakeBrowser;
+import com.github.arachnidium.core.HowToGetPage;
+import com.github.arachnidium.core.WindowManager;
+import com.github.arachnidium.model.common.FakeApplicationFactory;
+
+/**
+ * {@link WindowManager#getHandle(com.github.arachnidium.core.fluenthandle.IHowToGetHandle)}
+ * of the window which is already known. The returned proxy is resolved by
+ * the first invocation. So each operation is one resolve step: the expected
+ * window is waited for and matched once. Then the known instance is found by
+ * the string handle. <code>commands / score</code> is the count of remote
+ * commands per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetHandleBenchmark {
+
+	@Param({ "index", "title", "url" })
+	public String expected;
+
+	private FakeCommandExecutor executor;
+	private FakeBrowser browser;
+	private WindowManager manager;
+	private HowToGetPage howToGet;
+
+	@Setup(Level.Trial)
+	public void start() {
+		executor = FakeSession.newExecutor(10, 0);
+		browser = new FakeApplicationFactory(executor).launch(FakeBrowser.class);
+		manager = browser.getManager();
+		howToGet = new HowToGetPage();
+		switch (expected) {
+		case "index":
+			howToGet.setExpected(0);
+			break;
+		case "title":
+			howToGet.setExpected(FakeCommandExecutor.TITLE);
+			break;
+		default:
+			howToGet.setExpected(Arrays.asList(FakeCommandExecutor.URL));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void quit() {
+		browser.quit();
+	}
+
+	@Benchmark
+	public String getHandle(RemoteCommands commands) {
+		String result = manager.getHandle(howToGet).getHandle();
+		commands.count(executor);
+		return result;
+	}
+}
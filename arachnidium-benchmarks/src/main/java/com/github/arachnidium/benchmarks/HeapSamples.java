@@ -0,0 +1,64 @@
+package com.github.arachnidium.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Used heap which is sampled after garbage collection. Soak benchmarks call
+ * {@link #tick(int)} after each invocation. The iteration fails if the heap
+ * grows more than {@link #TOLERANCE_BYTES} after the first sample.
+ */
+@State(Scope.Thread)
+public class HeapSamples {
+	static final long TOLERANCE_BYTES = 8 * 1024 * 1024;
+
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final List<Long> samples = new ArrayList<Long>();
+	private int calls;
+
+	private long getUsedHeap() {
+		System.gc();
+		System.gc();
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * @param interval is the count of invocations between samples
+	 */
+	void tick(int interval) {
+		if (++calls % interval == 0) {
+			samples.add(getUsedHeap());
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		samples.clear();
+		calls = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void check() {
+		if (samples.size() < 2) {
+			return;
+		}
+		StringBuilder report = new StringBuilder("Used heap, KB:");
+		for (long sample : samples) {
+			report.append(' ').append(sample / 1024);
+		}
+		System.out.println(report);
+		long growth = samples.get(samples.size() - 1) - samples.get(0);
+		if (growth > TOLERANCE_BYTES) {
+			throw new IllegalStateException("The heap has grown by "
+					+ growth / 1024 + " KB after " + calls + " invocations");
+		}
+	}
+}
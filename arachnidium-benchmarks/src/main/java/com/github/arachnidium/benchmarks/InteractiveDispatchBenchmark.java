@@ -0,0 +1,37 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Methods of parts which are marked by 
+ * {@link com.github.arachnidium.model.common.FunctionalPart.InteractiveMethod} 
+ * and the same methods without the mark. Both of them send keys 
+ * and click through the listenable driver.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InteractiveDispatchBenchmark {
+
+	@Benchmark
+	public void interactiveMethod(FakeSession session, RemoteCommands commands) {
+		session.browser.searchForm.performSearch("arachnidium");
+		commands.count(session.executor);
+	}
+
+	@Benchmark
+	public void plainMethod(FakeSession session, RemoteCommands commands) {
+		session.browser.searchForm.performSearchDirectly("arachnidium");
+		commands.count(session.executor);
+	}
+}
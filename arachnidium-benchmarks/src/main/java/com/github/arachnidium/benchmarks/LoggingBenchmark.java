@@ -0,0 +1,44 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.util.logging.Log;
+import com.github.arachnidium.util.logging.Photographer;
+
+/**
+ * {@link Log} messages which are above and below the level of 
+ * <code>benchmark-settings.json</code> and screenshots which are attached 
+ * to messages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+	@Benchmark
+	public void message(FakeSession session) {
+		Log.message("Benchmark message");
+	}
+
+	@Benchmark
+	public void debugBelowLevel(FakeSession session) {
+		Log.debug("Benchmark message");
+	}
+
+	@Benchmark
+	public void screenshot(FakeSession session, RemoteCommands commands) {
+		Photographer.takeAPictureOfAnInfo(session.browser.getWrappedDriver(),
+				"Benchmark screenshot");
+		commands.count(session.executor);
+	}
+}
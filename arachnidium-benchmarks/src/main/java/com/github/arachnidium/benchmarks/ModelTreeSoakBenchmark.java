@@ -0,0 +1,38 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.model.FakeSearchForm;
+
+/**
+ * The soak test of the model tree. The single iteration performs 100 000
+ * <code>getPart</code> calls on the same session. The used heap is sampled
+ * after garbage collection each 10 000 calls. The iteration fails if the heap
+ * grows more than {@link HeapSamples#TOLERANCE_BYTES} after the first sample.
+ * The heap is limited by 256 MB. So the growth of the tree without bound
+ * fails with {@link OutOfMemoryError}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = ModelTreeSoakBenchmark.CALLS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class ModelTreeSoakBenchmark {
+	static final int CALLS = 100000;
+	static final int INTERVAL = 10000;
+
+	@Benchmark
+	public Object getPart(FakeSession session, HeapSamples heap) {
+		Object result = session.browser.getPart(FakeSearchForm.class);
+		heap.tick(INTERVAL);
+		return result;
+	}
+}
@@ -0,0 +1,42 @@
+package com.github.arachnidium.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+
+/**
+ * Counts commands which are received by {@link FakeCommandExecutor}. JMH
+ * reports the counter with the same unit as the score (e.g. ops/s). So
+ * <code>commands / score</code> is the count of remote commands per
+ * operation.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class RemoteCommands {
+	public long commands;
+	private long seen;
+	private FakeCommandExecutor executor;
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		commands = 0;
+	}
+
+	/**
+	 * Takes commands which have been executed by the given executor since
+	 * the previous invocation
+	 */
+	void count(FakeCommandExecutor executor) {
+		if (this.executor != executor) {
+			this.executor = executor;
+			seen = 0;
+		}
+		long total = executor.getCommandCount();
+		commands += total - seen;
+		seen = total;
+	}
+}
@@ -0,0 +1,41 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+import com.github.arachnidium.benchmarks.model.FakeBrowser;
+import com.github.arachnidium.model.common.FakeApplicationFactory;
+
+/**
+ * The start of a session: the Spring context, the listenable driver, 
+ * the window manager, the application and its {@link com.github.arachnidium.model.common.Static} 
+ * parts. And the quit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionBootstrapBenchmark {
+
+	@Benchmark
+	public FakeBrowser launchAndQuit(RemoteCommands commands) {
+		FakeCommandExecutor executor = FakeSession.newExecutor(10, 0);
+		FakeBrowser browser = new FakeApplicationFactory(executor)
+				.launch(FakeBrowser.class);
+		browser.quit();
+		commands.count(executor);
+		return browser;
+	}
+}
@@ -0,0 +1,48 @@
+package com.github.arachnidium.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.benchmarks.fake.FakeCommandExecutor;
+import com.github.arachnidium.benchmarks.model.FakeBrowser;
+import com.github.arachnidium.benchmarks.model.FakeSearchForm;
+import com.github.arachnidium.model.common.FakeApplicationFactory;
+
+/**
+ * The soak test of the session lifecycle. The single iteration opens 1 000
+ * sessions one by one. Each session gets a part and quits. The used heap is
+ * sampled after garbage collection each 100 sessions. The iteration fails if
+ * the heap grows more than {@link HeapSamples#TOLERANCE_BYTES} after the
+ * first sample. So Spring contexts, managers and model trees of sessions 
+ * which are over should be released. The iteration takes about 15 minutes
+ * because of the start of the Spring context of each session.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = SessionLifecycleSoakBenchmark.SESSIONS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@Timeout(time = 30, timeUnit = TimeUnit.MINUTES)
+public class SessionLifecycleSoakBenchmark {
+	static final int SESSIONS = 1000;
+	static final int INTERVAL = 100;
+
+	@Benchmark
+	public FakeBrowser launchAndQuit(HeapSamples heap) {
+		FakeCommandExecutor executor = FakeSession.newExecutor(10, 0);
+		FakeBrowser browser = new FakeApplicationFactory(executor)
+				.launch(FakeBrowser.class);
+		browser.getPart(FakeSearchForm.class);
+		browser.quit();
+		heap.tick(INTERVAL);
+		return browser;
+	}
+}
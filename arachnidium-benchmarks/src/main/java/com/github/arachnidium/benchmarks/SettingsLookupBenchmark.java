@@ -0,0 +1,146 @@
+package com.github.arachnidium.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.arachnidium.util.configuration.SettingsLocation;
+
+/**
+ * The lookup of default settings which is performed when
+ * {@link com.github.arachnidium.util.configuration.Configuration#byDefault}
+ * is initialized. The working directory is a fake CI workspace: modules with
+ * deep source trees, <code>node_modules</code>, <code>target</code> folders
+ * and a folder of screenshots. <code>settings.json</code> is in the test
+ * resources of the last module.<br/>
+ * <br/>
+ * - <code>cachedIndex</code> takes the path from the index file which has been
+ * written by the previous lookup;<br/>
+ * - <code>coldScan</code> has no index file. It is the first lookup in a new
+ * workspace (the file system cache of the OS is warm anyway);<br/>
+ * - <code>scanEverything</code> is the recursive scan of the whole workspace
+ * which was used before.<br/>
+ * <br/>
+ * Each invocation is measured separately (single shot).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class SettingsLookupBenchmark {
+	private static final String TMP_DIR = "java.io.tmpdir";
+	private static final String SETTINGS_PROPERTY = "arachnidium.settings";
+
+	@Param({ "20" })
+	public int modules;
+
+	@Param({ "5000" })
+	public int screenshots;
+
+	private Path root;
+	private String workspace;
+	private String originalTmpDir;
+	private Path indexDir;
+	private Path emptyIndexDir;
+
+	private static void touch(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.createFile(file);
+	}
+
+	private static void delete(Path path) throws IOException {
+		try (Stream<Path> content = Files.walk(path)) {
+			content.sorted(Comparator.reverseOrder()).map(Path::toFile)
+					.forEach(File::delete);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void createWorkspace() throws IOException {
+		System.clearProperty(SETTINGS_PROPERTY);
+		originalTmpDir = System.getProperty(TMP_DIR);
+		root = Files.createTempDirectory("arachnidium-workspace");
+		Path ws = root.resolve("workspace");
+		for (int m = 0; m < modules; m++) {
+			Path module = ws.resolve("module-" + m);
+			for (String source : new String[] { "main", "test" }) {
+				for (int p = 0; p < 5; p++) {
+					for (int s = 0; s < 5; s++) {
+						touch(module.resolve("src/" + source
+								+ "/java/com/github/pkg" + p + "/sub" + s
+								+ "/Type.java"));
+					}
+				}
+			}
+			touch(module.resolve("target/classes/Type.class"));
+			for (int n = 0; n < 20; n++) {
+				touch(module.resolve("node_modules/package-" + n
+						+ "/lib/index.js"));
+			}
+		}
+		for (int i = 0; i < screenshots; i++) {
+			touch(ws.resolve("screenshots/picture-" + i + ".png"));
+		}
+		touch(ws.resolve("module-" + (modules - 1)
+				+ "/src/test/resources/settings.json"));
+		workspace = ws.toString();
+
+		indexDir = Files.createDirectory(root.resolve("index"));
+		System.setProperty(TMP_DIR, indexDir.toString());
+		SettingsLocation.locate(workspace); // the index file is written
+		System.setProperty(TMP_DIR, originalTmpDir);
+	}
+
+	@Setup(Level.Invocation)
+	public void createEmptyIndexDir() throws IOException {
+		emptyIndexDir = Files.createTempDirectory(root, "no-index");
+	}
+
+	@TearDown(Level.Invocation)
+	public void restoreTmpDir() throws IOException {
+		System.setProperty(TMP_DIR, originalTmpDir);
+		delete(emptyIndexDir);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteWorkspace() throws IOException {
+		delete(root);
+	}
+
+	@Benchmark
+	public String cachedIndex() {
+		System.setProperty(TMP_DIR, indexDir.toString());
+		return SettingsLocation.locate(workspace);
+	}
+
+	@Benchmark
+	public String coldScan() {
+		System.setProperty(TMP_DIR, emptyIndexDir.toString());
+		return SettingsLocation.locate(workspace);
+	}
+
+	@Benchmark
+	public String scanEverything() {
+		return SettingsLocation.scanEverything(workspace);
+	}
+}
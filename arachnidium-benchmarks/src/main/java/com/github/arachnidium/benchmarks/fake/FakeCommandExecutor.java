@@ -0,0 +1,174 @@
+package com.github.arachnidium.benchmarks.fake;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * This is the in-process stand-in of the remote end. It is used by 
+ * {@link org.openqa.selenium.remote.RemoteWebDriver#RemoteWebDriver(CommandExecutor, org.openqa.selenium.Capabilities)}. 
+ * Commands are answered by {@link FakeDom} without any network. There is one 
+ * browser window.<br/>
+ * <br/>
+ * Each command can be delayed by the given latency. Zero latency shows the pure 
+ * overhead of the framework. Commands are counted (see {@link #getCommandCount()}). 
+ * Unknown commands succeed and return <code>null</code>.
+ */
+public class FakeCommandExecutor implements CommandExecutor {
+	public static final String WINDOW_HANDLE = "fake-window-1";
+	public static final String TITLE = "Fake page";
+	public static final String URL = "http://fake.arachnidium/";
+
+	private static final AtomicInteger sessionCount = new AtomicInteger();
+	private static final String SCREENSHOT = createScreenshot();
+
+	private final FakeDom dom;
+	private final long latencyNanos;
+	private long commandCount;
+	private String currentUrl = URL;
+
+	/**
+	 * @param dom is the fake DOM
+	 * @param latencyNanos is the delay of each command in nanoseconds
+	 */
+	public FakeCommandExecutor(FakeDom dom, long latencyNanos) {
+		this.dom = dom;
+		this.latencyNanos = latencyNanos;
+	}
+
+	private static String createScreenshot() {
+		BufferedImage image = new BufferedImage(64, 48,
+				BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			ImageIO.write(image, "png", bytes);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return Base64.getEncoder().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @return count of commands which have been executed
+	 */
+	public synchronized long getCommandCount() {
+		return commandCount;
+	}
+
+	public FakeDom getDom() {
+		return dom;
+	}
+
+	private static Map<String, Object> map(String key1, Object value1,
+			String key2, Object value2) {
+		Map<String, Object> result = new HashMap<String, Object>();
+		result.put(key1, value1);
+		result.put(key2, value2);
+		return result;
+	}
+
+	private static String param(Command command, String name) {
+		Object value = command.getParameters().get(name);
+		return value == null ? null : String.valueOf(value);
+	}
+
+	private Object answer(Command command) {
+		String id = param(command, "id");
+		switch (command.getName()) {
+		case DriverCommand.NEW_SESSION:
+			return map("browserName", "fake", "javascriptEnabled", true);
+		case DriverCommand.GET:
+			currentUrl = param(command, "url");
+			return null;
+		case DriverCommand.GET_CURRENT_URL:
+			return currentUrl;
+		case DriverCommand.GET_TITLE:
+			return TITLE;
+		case DriverCommand.GET_PAGE_SOURCE:
+			return "<html><head><title>" + TITLE + "</title></head></html>";
+		case DriverCommand.GET_CURRENT_WINDOW_HANDLE:
+			return WINDOW_HANDLE;
+		case DriverCommand.GET_WINDOW_HANDLES:
+			return Arrays.asList(WINDOW_HANDLE);
+		case DriverCommand.FIND_ELEMENT:
+			return dom.findElement(null, param(command, "using"),
+					param(command, "value"));
+		case DriverCommand.FIND_CHILD_ELEMENT:
+			return dom.findElement(id, param(command, "using"),
+					param(command, "value"));
+		case DriverCommand.FIND_ELEMENTS:
+			return dom.findElements(null, param(command, "using"),
+					param(command, "value"));
+		case DriverCommand.FIND_CHILD_ELEMENTS:
+			return dom.findElements(id, param(command, "using"),
+					param(command, "value"));
+		case DriverCommand.GET_ELEMENT_TEXT:
+			return dom.getText(id);
+		case DriverCommand.GET_ELEMENT_TAG_NAME:
+			return dom.getTagName(id);
+		case DriverCommand.GET_ELEMENT_ATTRIBUTE:
+			return dom.getAttribute(id, param(command, "name"));
+		case DriverCommand.GET_ELEMENT_VALUE_OF_CSS_PROPERTY:
+			return "";
+		case DriverCommand.IS_ELEMENT_DISPLAYED:
+		case DriverCommand.IS_ELEMENT_ENABLED:
+			return true;
+		case DriverCommand.IS_ELEMENT_SELECTED:
+			return false;
+		case DriverCommand.GET_ELEMENT_LOCATION:
+		case DriverCommand.GET_ELEMENT_LOCATION_ONCE_SCROLLED_INTO_VIEW:
+		case DriverCommand.GET_WINDOW_POSITION:
+			return map("x", 0L, "y", 0L);
+		case DriverCommand.GET_ELEMENT_SIZE:
+		case DriverCommand.GET_WINDOW_SIZE:
+			return map("width", 64L, "height", 48L);
+		case DriverCommand.SCREENSHOT:
+			return SCREENSHOT;
+		case DriverCommand.GET_AVAILABLE_LOG_TYPES:
+		case DriverCommand.GET_ALL_COOKIES:
+			return Arrays.asList();
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		synchronized (this) {
+			commandCount++;
+		}
+		if (latencyNanos > 0) {
+			LockSupport.parkNanos(latencyNanos);
+		}
+		Response response = new Response();
+		if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+			response.setSessionId("fake-session-"
+					+ sessionCount.incrementAndGet());
+		} else {
+			response.setSessionId(String.valueOf(command.getSessionId()));
+		}
+		response.setStatus(ErrorCodes.SUCCESS);
+		Object value = answer(command);
+		if (value instanceof List) { // the driver shouldn't change cached lists
+			value = new ArrayList<Object>((List<?>) value);
+		}
+		response.setValue(value);
+		return response;
+	}
+}
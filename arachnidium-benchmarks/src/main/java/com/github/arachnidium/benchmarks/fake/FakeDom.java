@@ -0,0 +1,81 @@
+package com.github.arachnidium.benchmarks.fake;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deterministic in-memory DOM of the fake page.<br/>
+ * <br/>
+ * Each locator (strategy and value) finds the same elements each time. A single 
+ * element is found by any locator. Lists contain {@link #getListSize()} elements. 
+ * Element ids are derived from the locator and the index. So results don't depend 
+ * on the order of commands.
+ */
+public class FakeDom {
+	/**
+	 * JSON wire protocol key of the element id
+	 */
+	static final String ELEMENT_KEY = "ELEMENT";
+
+	private final int listSize;
+	// locator -> raw response value
+	private final Map<String, List<Map<String, Object>>> lists = new ConcurrentHashMap<String, List<Map<String, Object>>>();
+	private final Map<String, Map<String, Object>> singles = new ConcurrentHashMap<String, Map<String, Object>>();
+
+	/**
+	 * @param listSize is the count of elements which are found by 
+	 * <code>findElements</code>
+	 */
+	public FakeDom(int listSize) {
+		this.listSize = listSize;
+	}
+
+	public int getListSize() {
+		return listSize;
+	}
+
+	private static Map<String, Object> element(String id) {
+		Map<String, Object> result = new HashMap<String, Object>();
+		result.put(ELEMENT_KEY, id);
+		return Collections.unmodifiableMap(result);
+	}
+
+	private static String locator(String parentId, String using, String value) {
+		return String.valueOf(parentId) + "/" + using + "=" + value;
+	}
+
+	Map<String, Object> findElement(String parentId, String using,
+			String value) {
+		return singles.computeIfAbsent(locator(parentId, using, value),
+				(locator) -> element(locator + "[0]"));
+	}
+
+	List<Map<String, Object>> findElements(String parentId, String using,
+			String value) {
+		return lists.computeIfAbsent(locator(parentId, using, value),
+				(locator) -> {
+					List<Map<String, Object>> result = new ArrayList<Map<String, Object>>(
+							listSize);
+					for (int i = 0; i < listSize; i++) {
+						result.add(element(locator + "[" + i + "]"));
+					}
+					return Collections.unmodifiableList(result);
+				});
+	}
+
+	String getText(String elementId) {
+		return "text of " + elementId;
+	}
+
+	String getTagName(String elementId) {
+		return "div";
+	}
+
+	String getAttribute(String elementId, String name) {
+		return name + " of " + elementId;
+	}
+}
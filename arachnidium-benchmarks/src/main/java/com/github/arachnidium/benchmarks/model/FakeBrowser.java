@@ -0,0 +1,21 @@
+package com.github.arachnidium.benchmarks.model;
+
+import com.github.arachnidium.core.BrowserWindow;
+import com.github.arachnidium.model.browser.BrowserApplication;
+import com.github.arachnidium.model.common.Static;
+
+/**
+ * The application which is opened by the fake driver
+ */
+public class FakeBrowser extends BrowserApplication {
+
+	@Static
+	public FakeSearchForm<?> searchForm;
+
+	@Static
+	public FakeTable<?> table;
+
+	protected FakeBrowser(BrowserWindow window) {
+		super(window);
+	}
+}
@@ -0,0 +1,31 @@
+package com.github.arachnidium.benchmarks.model;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+import com.github.arachnidium.core.BrowserWindow;
+import com.github.arachnidium.model.browser.BrowserPage;
+import com.github.arachnidium.model.common.Static;
+import com.github.arachnidium.model.support.HowToGetByFrames;
+import com.github.arachnidium.model.support.annotations.rootelements.RootElement;
+
+/**
+ * A page with several {@link Static} parts. They are populated when the page
+ * is created
+ */
+public class FakePage extends BrowserPage {
+	@Static
+	public FakeSearchForm<?> searchForm;
+
+	@Static
+	@RootElement(chain = { @FindBy(id = "content") })
+	public FakeTable<?> table;
+
+	@Static
+	@RootElement(chain = { @FindBy(id = "footer") })
+	public FakeTable<?> footer;
+
+	public FakePage(BrowserWindow window, HowToGetByFrames path, By by) {
+		super(window, path, by);
+	}
+}
@@ -0,0 +1,39 @@
+package com.github.arachnidium.benchmarks.model;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import com.github.arachnidium.core.Handle;
+import com.github.arachnidium.model.common.FunctionalPart;
+import com.github.arachnidium.model.support.HowToGetByFrames;
+
+public class FakeSearchForm<T extends Handle> extends FunctionalPart<T> {
+	@FindBy(name = "q")
+	private WebElement searchInput;
+	@FindBy(name = "btnG")
+	private WebElement searchButton;
+
+	protected FakeSearchForm(T handle, HowToGetByFrames path, By by) {
+		super(handle, path, by);
+	}
+
+	protected FakeSearchForm(FunctionalPart<?> parent, HowToGetByFrames path, By by) {
+		super(parent, path, by);
+	}
+
+	@InteractiveMethod
+	public void performSearch(String searchString) {
+		searchInput.sendKeys(searchString);
+		searchButton.click();
+	}
+
+	/**
+	 * The same as {@link #performSearch(String)}. But it is not marked by
+	 * {@link InteractiveMethod}
+	 */
+	public void performSearchDirectly(String searchString) {
+		searchInput.sendKeys(searchString);
+		searchButton.click();
+	}
+}
@@ -0,0 +1,34 @@
+package com.github.arachnidium.benchmarks.model;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import com.github.arachnidium.core.Handle;
+import com.github.arachnidium.model.common.FunctionalPart;
+import com.github.arachnidium.model.support.HowToGetByFrames;
+
+public class FakeTable<T extends Handle> extends FunctionalPart<T> {
+	@FindBy(tagName = "tr")
+	private List<WebElement> rows;
+
+	protected FakeTable(T handle, HowToGetByFrames path, By by) {
+		super(handle, path, by);
+	}
+
+	protected FakeTable(FunctionalPart<?> parent, HowToGetByFrames path, By by) {
+		super(parent, path, by);
+	}
+
+	@InteractiveMethod
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	@InteractiveMethod
+	public String getRowText(int index) {
+		return rows.get(index).getText();
+	}
+}
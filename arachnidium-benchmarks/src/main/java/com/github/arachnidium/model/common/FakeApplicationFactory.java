@@ -0,0 +1,61 @@
+package com.github.arachnidium.model.common;
+
+import java.lang.reflect.Constructor;
+
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import com.github.arachnidium.core.Handle;
+import com.github.arachnidium.core.WindowManager;
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
+import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
+
+/**
+ * Launches browser applications over the given {@link CommandExecutor}. It is
+ * used by benchmarks to start sessions without any real browser. Everything
+ * else is the same as {@link com.github.arachnidium.model.browser.WebFactory}
+ * does.
+ */
+public class FakeApplicationFactory extends ApplicationFactory {
+	private final CommandExecutor executor;
+
+	/**
+	 * @param executor is the in-process remote end
+	 */
+	public FakeApplicationFactory(CommandExecutor executor) {
+		super(ESupportedDrivers.REMOTE, DesiredCapabilities.firefox());
+		this.executor = executor;
+	}
+
+	@Override
+	public <T extends Application<?, ?>> T launch(Class<T> appClass) {
+		Handle h = null;
+		try {
+			// RemoteWebDriver(CommandExecutor, Capabilities) is invoked
+			h = getTheFirstHandle(WindowManager.class, new Class<?>[] {
+					ESupportedDrivers.class, Object[].class }, new Object[] {
+					supportedDriver, new Object[] { executor, capabilities } });
+
+			Object[] params = new Object[] { h };
+			Constructor<?> c = ExecutableUtil.getRelevantConstructor(appClass,
+					params);
+			if (c == null) {
+				throw new NoSuchMethodException(
+						"There is no cunstructor which matches to " + h
+								+ ". The target class is " + appClass.getName());
+			}
+			T result = EnhancedProxyFactory.getProxy(appClass,
+					c.getParameterTypes(), params,
+					new ApplicationInterceptor() {
+					});
+			DecompositionUtil.populateFieldsWhichAreDecomposable(result);
+			return result;
+		} catch (Exception e) {
+			if (h != null) {
+				h.driverEncapsulation.destroy();
+			}
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * Opens {@link DefaultSettingsLocator} to benchmarks. It is the lookup which
+ * is performed when {@link Configuration#byDefault} is initialized.
+ */
+public final class SettingsLocation {
+
+	private SettingsLocation() {
+		super();
+	}
+
+	/**
+	 * @see DefaultSettingsLocator#locate(String)
+	 */
+	public static String locate(String startPath) {
+		return DefaultSettingsLocator.locate(startPath);
+	}
+
+	/**
+	 * The scan without depth bound and ignore patterns. It is the same
+	 * search as the recursive scan of the whole working directory which was
+	 * used before {@link DefaultSettingsLocator}
+	 */
+	public static String scanEverything(String startPath) {
+		return DefaultSettingsLocator.scan(new File(startPath).getAbsoluteFile(),
+				Integer.MAX_VALUE, Collections.emptyList());
+	}
+}
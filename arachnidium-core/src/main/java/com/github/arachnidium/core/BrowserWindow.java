@@ -11,6 +11,7 @@ import org.openqa.selenium.remote.UnreachableBrowserException;
 
 import com.github.arachnidium.core.components.common.NavigationTool;
 import com.github.arachnidium.core.components.common.WindowTool;
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
 import com.github.arachnidium.core.interfaces.IExtendedWindow;
 
 /**
@@ -22,7 +23,11 @@ public class BrowserWindow extends Handle implements Navigation,
 	private final NavigationTool navigationTool;
 
 	BrowserWindow(String handle, WindowManager windowManager) {
-		super(handle, windowManager);
+		this(new HandleMatch(handle, null, null), windowManager);
+	}
+	
+	BrowserWindow(HandleMatch match, WindowManager windowManager) {
+		super(match, windowManager);
 		this.windowTool = driverEncapsulation.getComponent(
 				WindowTool.class);
 		this.navigationTool = driverEncapsulation.getComponent(
@@ -33,16 +38,18 @@ public class BrowserWindow extends Handle implements Navigation,
 	 * @see org.openqa.selenium.WebDriver.Navigation#back()
 	 */
 	@Override
-	public synchronized void back() {
-		switchToMe();
-		navigationTool.back();
+	public void back() {
+		serializer.run(() -> {
+			switchToMe();
+			navigationTool.back();
+		});
 	}
 
 	/**
 	 * @see com.github.arachnidium.core.interfaces.IExtendedWindow#close()
 	 */
 	@Override
-	public synchronized void close() throws UnclosedWindowException,
+	public void close() throws UnclosedWindowException,
 			NoSuchWindowException, UnhandledAlertException,
 			UnreachableBrowserException {
 		try {
@@ -60,98 +67,120 @@ public class BrowserWindow extends Handle implements Navigation,
 	 * @see org.openqa.selenium.WebDriver.Navigation#forward()
 	 */
 	@Override
-	public synchronized void forward() {
-		switchToMe();
-		navigationTool.forward();
+	public void forward() {
+		serializer.run(() -> {
+			switchToMe();
+			navigationTool.forward();
+		});
 	}
 
 	/**
 	 * @see com.github.arachnidium.core.interfaces.IExtendedWindow#getCurrentUrl()
 	 */
 	@Override
-	public synchronized String getCurrentUrl() throws NoSuchWindowException {
-		switchToMe();
-		return driverEncapsulation.getWrappedDriver().getCurrentUrl();
+	public String getCurrentUrl() throws NoSuchWindowException {
+		return serializer.call(() -> {
+			switchToMe();
+			return driverEncapsulation.getWrappedDriver().getCurrentUrl();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Window#getPosition()
 	 */
 	@Override
-	public synchronized Point getPosition() {
-		switchToMe();
-		return windowTool.getPosition();
+	public Point getPosition() {
+		return serializer.call(() -> {
+			switchToMe();
+			return windowTool.getPosition();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Window#getSize()
 	 */
 	@Override
-	public synchronized Dimension getSize() {
-		switchToMe();
-		return windowTool.getSize();
+	public Dimension getSize() {
+		return serializer.call(() -> {
+			switchToMe();
+			return windowTool.getSize();
+		});
 	}
 
 	/**
 	 * @see com.github.arachnidium.core.interfaces.IExtendedWindow#getTitle()
 	 */
 	@Override
-	public synchronized String getTitle() {
-		return driverEncapsulation.getWrappedDriver().getTitle();
+	public String getTitle() {
+		return serializer.call(() -> {
+			switchToMe();
+			return driverEncapsulation.getWrappedDriver().getTitle();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Window#maximize()
 	 */
 	@Override
-	public synchronized void maximize() {
-		switchToMe();
-		windowTool.maximize();
+	public void maximize() {
+		serializer.run(() -> {
+			switchToMe();
+			windowTool.maximize();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Navigation#refresh()
 	 */
 	@Override
-	public synchronized void refresh() {
-		switchToMe();
-		navigationTool.refresh();
+	public void refresh() {
+		serializer.run(() -> {
+			switchToMe();
+			navigationTool.refresh();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Window#setPosition(org.openqa.selenium.Point)
 	 */
 	@Override
-	public synchronized void setPosition(Point position) {
-		switchToMe();
-		windowTool.setPosition(position);
+	public void setPosition(Point position) {
+		serializer.run(() -> {
+			switchToMe();
+			windowTool.setPosition(position);
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Window#setSize(org.openqa.selenium.Dimension)
 	 */
 	@Override
-	public synchronized void setSize(Dimension size) {
-		switchToMe();
-		windowTool.setSize(size);
+	public void setSize(Dimension size) {
+		serializer.run(() -> {
+			switchToMe();
+			windowTool.setSize(size);
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Navigation#to(java.lang.String)
 	 */
 	@Override
-	public synchronized void to(String link) {
-		switchToMe();
-		navigationTool.to(link);
+	public void to(String link) {
+		serializer.run(() -> {
+			switchToMe();
+			navigationTool.to(link);
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.WebDriver.Navigation#to(java.net.URL)
 	 */
 	@Override
-	public synchronized void to(URL url) {
-		switchToMe();
-		navigationTool.to(url);
-
+	public void to(URL url) {
+		serializer.run(() -> {
+			switchToMe();
+			navigationTool.to(url);
+		});
 	}
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.github.arachnidium.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A {@link WebDriver} session accepts one command at a time. So
+ * everything that sends a sequence of commands which shouldn't be
+ * interleaved (e.g. switch to a window and do something there) is 
+ * performed under this per-session lock.<br/>
+ * <br/>
+ * The lock is fair and reentrant. Everything that doesn't send 
+ * commands (handle caches, logging etc.) is performed without it.<br/>
+ * <br/>
+ * It counts how long threads were waiting for the lock and how long
+ * the lock was held. Only the outermost acquisition is measured
+ * as the hold.
+ */
+public class CommandSerializer {
+
+	private final ReentrantLock lock = new ReentrantLock(true);
+	// it is written and read by the owner of the lock only
+	private long holdStartedAt;
+
+	private final AtomicLong acquisitions = new AtomicLong();
+	private final AtomicLong contendedAcquisitions = new AtomicLong();
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong totalHoldNanos = new AtomicLong();
+	private final AtomicLong maxHoldNanos = new AtomicLong();
+
+	private static void updateMax(AtomicLong max, long value) {
+		long current = max.get();
+		while (value > current && !max.compareAndSet(current, value)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * Acquires the lock. It should be followed by {@link #unlock()}
+	 * in the <code>finally</code> block 
+	 */
+	public void lock() {
+		if (lock.isHeldByCurrentThread()) {
+			lock.lock();
+			return;
+		}
+		long started = System.nanoTime();
+		if (!lock.tryLock()) {
+			contendedAcquisitions.incrementAndGet();
+			lock.lock();
+		}
+		long acquiredAt = System.nanoTime();
+		long waited = acquiredAt - started;
+		acquisitions.incrementAndGet();
+		totalWaitNanos.addAndGet(waited);
+		updateMax(maxWaitNanos, waited);
+		holdStartedAt = acquiredAt;
+	}
+
+	/**
+	 * Acquires the lock only if it is free or it is already held 
+	 * by the current thread. 
+	 * 
+	 * @return <code>true</code> if the lock has been acquired. It should
+	 * be followed by {@link #unlock()} in the <code>finally</code> block
+	 * in this case  
+	 */
+	public boolean tryLock() {
+		boolean isOuter = !lock.isHeldByCurrentThread();
+		if (!lock.tryLock()) {
+			return false;
+		}
+		if (isOuter) {
+			acquisitions.incrementAndGet();
+			holdStartedAt = System.nanoTime();
+		}
+		return true;
+	}
+
+	/**
+	 * Releases the lock
+	 */
+	public void unlock() {
+		if (lock.getHoldCount() == 1) {
+			long held = System.nanoTime() - holdStartedAt;
+			totalHoldNanos.addAndGet(held);
+			updateMax(maxHoldNanos, held);
+		}
+		lock.unlock();
+	}
+
+	/**
+	 * @return <code>true</code> if the current thread holds the lock
+	 */
+	public boolean isHeldByCurrentThread() {
+		return lock.isHeldByCurrentThread();
+	}
+
+	/**
+	 * Performs the given action under the lock
+	 * 
+	 * @param action is a sequence of commands
+	 */
+	public void run(Runnable action) {
+		lock();
+		try {
+			action.run();
+		} finally {
+			unlock();
+		}
+	}
+
+	/**
+	 * Performs the given action under the lock
+	 * 
+	 * @param action is a sequence of commands
+	 * @return the result of the action
+	 */
+	public <T> T call(Supplier<T> action) {
+		lock();
+		try {
+			return action.get();
+		} finally {
+			unlock();
+		}
+	}
+
+	/**
+	 * @return Count of the outermost lock acquisitions
+	 */
+	public long getAcquisitionCount() {
+		return acquisitions.get();
+	}
+
+	/**
+	 * @return Count of acquisitions when the lock was held 
+	 * by another thread
+	 */
+	public long getContendedAcquisitionCount() {
+		return contendedAcquisitions.get();
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return Total time which was spent waiting for the lock
+	 */
+	public long getTotalWaitTime(TimeUnit unit) {
+		return unit.convert(totalWaitNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return The longest wait for the lock
+	 */
+	public long getMaxWaitTime(TimeUnit unit) {
+		return unit.convert(maxWaitNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return Total time when the lock was held
+	 */
+	public long getTotalHoldTime(TimeUnit unit) {
+		return unit.convert(totalHoldNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return The longest hold of the lock
+	 */
+	public long getMaxHoldTime(TimeUnit unit) {
+		return unit.convert(maxHoldNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		TimeUnit ms = TimeUnit.MILLISECONDS;
+		return "acquisitions: " + getAcquisitionCount() + " (contended "
+				+ getContendedAcquisitionCount() + "), wait total/max: "
+				+ getTotalWaitTime(ms) + "/" + getMaxWaitTime(ms)
+				+ " ms, hold total/max: " + getTotalHoldTime(ms) + "/"
+				+ getMaxHoldTime(ms) + " ms";
+	}
+}
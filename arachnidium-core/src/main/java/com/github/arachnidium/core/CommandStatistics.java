@@ -0,0 +1,158 @@
+package com.github.arachnidium.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.openqa.selenium.remote.CommandExecutor;
+
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Counts remote commands of a {@link WebDriverEncapsulation} session and
+ * records their latencies by {@link LatencyHistogram}s. Commands are
+ * recorded by the {@link CommandExecutor} of the session, so everything that
+ * is sent by the wire is taken into account whatever has sent it.<br/>
+ * <br/>
+ * Statistics are available by
+ * {@link WebDriverEncapsulation#getCommandStatistics()} and by JMX (see
+ * {@link CommandStatisticsMXBean}). The summary is logged when the session
+ * is destroyed.
+ */
+public class CommandStatistics implements CommandStatisticsMXBean {
+	private static final String OBJECT_NAME = "com.github.arachnidium:type=CommandStatistics,session=";
+
+	private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<String, LatencyHistogram>();
+	private final LatencyHistogram all = new LatencyHistogram();
+	private ObjectName objectName;
+
+	/**
+	 * Records a remote command
+	 *
+	 * @param command is the name of the command
+	 * @param nanos is how long the command took
+	 * @param failed is <code>true</code> when the command has thrown an
+	 *            exception
+	 */
+	public void record(String command, long nanos, boolean failed) {
+		LatencyHistogram histogram = histograms.get(command);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(command,
+					(c) -> new LatencyHistogram());
+		}
+		histogram.record(nanos, failed);
+		all.record(nanos, failed);
+	}
+
+	/**
+	 * @return Latencies of all remote commands of the session
+	 */
+	public LatencyHistogram getLatencyHistogram() {
+		return all;
+	}
+
+	/**
+	 * @param command is the name of a remote command
+	 * @return Latencies of the command or <code>null</code> if it has not
+	 *         been sent
+	 */
+	public LatencyHistogram getLatencyHistogram(String command) {
+		return histograms.get(command);
+	}
+
+	/**
+	 * @param command is the name of a remote command
+	 * @return Count of the given command
+	 */
+	public long getCommandCount(String command) {
+		LatencyHistogram histogram = histograms.get(command);
+		if (histogram == null) {
+			return 0;
+		}
+		return histogram.getCount();
+	}
+
+	@Override
+	public long getCommandCount() {
+		return all.getCount();
+	}
+
+	@Override
+	public long getFailureCount() {
+		return all.getFailureCount();
+	}
+
+	@Override
+	public Map<String, Long> getCommandCounts() {
+		Map<String, Long> result = new TreeMap<String, Long>();
+		histograms.forEach((command, histogram) -> result.put(command,
+				histogram.getCount()));
+		return result;
+	}
+
+	@Override
+	public double getLatencyMillis(String command, double percentile) {
+		LatencyHistogram histogram = histograms.get(command);
+		if (histogram == null) {
+			return 0;
+		}
+		return histogram.getPercentile(percentile, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public String getSummary() {
+		StringBuilder summary = new StringBuilder("remote commands: "
+				+ all.toString());
+		new TreeMap<String, LatencyHistogram>(histograms).forEach((command,
+				histogram) -> summary.append("\n  ").append(command)
+				.append(" - ").append(histogram.toString()));
+		return summary.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getSummary();
+	}
+
+	/**
+	 * Makes statistics available by JMX. Failures are logged only.
+	 *
+	 * @param session is the id of the session
+	 */
+	synchronized void register(String session) {
+		if (objectName != null) {
+			return;
+		}
+		try {
+			ObjectName name = new ObjectName(OBJECT_NAME
+					+ ObjectName.quote(String.valueOf(session)));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+					name);
+			objectName = name;
+		} catch (JMException | RuntimeException e) {
+			Log.warning("Command statistics of the session " + session
+					+ " can't be registered by JMX", e);
+		}
+	}
+
+	/**
+	 * Removes statistics from JMX
+	 */
+	synchronized void unregister() {
+		if (objectName == null) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.unregisterMBean(objectName);
+		} catch (JMException e) { // it has been already removed
+		}
+		objectName = null;
+	}
+}
@@ -0,0 +1,39 @@
+package com.github.arachnidium.core;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link CommandStatistics}. Each session is registered as
+ * <code>com.github.arachnidium:type=CommandStatistics,session=&lt;session id&gt;</code>
+ * until it is destroyed
+ */
+public interface CommandStatisticsMXBean {
+
+	/**
+	 * @return Count of all remote commands of the session
+	 */
+	public long getCommandCount();
+
+	/**
+	 * @return Count of remote commands which have failed
+	 */
+	public long getFailureCount();
+
+	/**
+	 * @return Count of each remote command by its name
+	 */
+	public Map<String, Long> getCommandCounts();
+
+	/**
+	 * @param command is the name of a remote command (e.g.
+	 *            <code>findElement</code>)
+	 * @param percentile is a value from 0 to 100
+	 * @return Latency of the command in milliseconds
+	 */
+	public double getLatencyMillis(String command, double percentile);
+
+	/**
+	 * @return Human readable table of commands and their latencies
+	 */
+	public String getSummary();
+}
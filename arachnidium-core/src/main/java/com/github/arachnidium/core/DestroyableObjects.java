@@ -1,24 +1,40 @@
 package com.github.arachnidium.core;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.util.logging.Log;
 
+/**
+ * Objects which are related to a session and have to be destroyed after
+ * quit. References are released when they are destroyed. So nothing of the
+ * session is retained by the list even when some object fails.
+ */
 class DestroyableObjects implements IDestroyable {
 
-	private final ArrayList<IDestroyable> destroyableList = new ArrayList<IDestroyable>();
+	private final List<IDestroyable> destroyableList = new ArrayList<IDestroyable>();
 	
-	void add(IDestroyable destroyable){
+	synchronized void add(IDestroyable destroyable){
 		destroyableList.add(destroyable);
 	}
 	
 	@Override
 	public void destroy() {
+		List<IDestroyable> toBeDestroyed;
+		synchronized (this) {
+			toBeDestroyed = new ArrayList<IDestroyable>(destroyableList);
+			destroyableList.clear();
+		}
 		//removes references or does something that 
-		for (IDestroyable d: destroyableList){ //kills objects refereed to WebDriver
-			d.destroy(); //Uses order of adding
+		for (IDestroyable d: toBeDestroyed){ //kills objects refereed to WebDriver
+			try {
+				d.destroy(); //Uses order of adding
+			} catch (RuntimeException e) {
+				Log.warning("Destroying of " + d.getClass().getName()
+						+ " has failed", e);
+			}
 		}
-		destroyableList.clear();
 	}
 
 }
@@ -6,6 +6,7 @@ import java.util.logging.Level;
 import com.github.arachnidium.util.logging.Log;
 import org.openqa.selenium.WebDriverException;
 
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
 import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.core.interfaces.IHasHandle;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
@@ -23,15 +24,23 @@ ITakesPictureOfItSelf, IDestroyable {
 	}
 
 	final String handle;
+	final HandleMatch match;
 	public final WebDriverEncapsulation driverEncapsulation;
 	public final Manager<?,?> nativeManager;
+	final CommandSerializer serializer;
 
 	private final HandleReceptionist receptionist;
 
 	Handle(String handle, Manager<?,?> manager) {
+		this(new HandleMatch(handle, null, null), manager);
+	}
+	
+	Handle(HandleMatch match, Manager<?,?> manager) {
 		this.nativeManager = manager;
 		this.driverEncapsulation = manager.getWebDriverEncapsulation();
-		this.handle = handle;
+		this.handle = match.getHandle();
+		this.match = match;
+		this.serializer = driverEncapsulation.getCommandSerializer();
 		this.receptionist = nativeManager.getHandleReceptionist();
 	}
 
@@ -43,11 +52,11 @@ ITakesPictureOfItSelf, IDestroyable {
 	/**
 	 * @return flag of the handle existing
 	 */
-	public synchronized boolean exists() {
+	public boolean exists() {
 		if (!nativeManager.isAlive())
 			return false;
 		try {
-			Set<String> handles = nativeManager.getHandles();
+			Set<String> handles = serializer.call(() -> nativeManager.getHandles());
 			return handles.contains(handle);
 		} catch (WebDriverException e) { // if there is no handle
 			return false;
@@ -64,11 +73,19 @@ ITakesPictureOfItSelf, IDestroyable {
 		return handle;
 	}
 
+	/**
+	 * @return The result of the handle resolving. It contains
+	 * values which were read when the handle was found
+	 */
+	public HandleMatch getHandleMatch() {
+		return match;
+	}
+
 	/**
 	 * Sets focus to itself
 	 */
 	@Override
-	public synchronized void switchToMe() {
+	public void switchToMe() {
 		nativeManager.switchTo(handle);
 	}
 
@@ -78,7 +95,7 @@ ITakesPictureOfItSelf, IDestroyable {
 	 * attached picture (optionally)
 	 */
 	@Override
-	public synchronized void takeAPictureOfAFine(String comment) {
+	public void takeAPictureOfAFine(String comment) {
 		nativeManager.takeAPictureOfAFine(handle, comment);
 	}
 
@@ -88,7 +105,7 @@ ITakesPictureOfItSelf, IDestroyable {
 	 * attached picture (optionally)
 	 */	
 	@Override
-	public synchronized void takeAPictureOfAnInfo(String comment) {
+	public void takeAPictureOfAnInfo(String comment) {
 		nativeManager.takeAPictureOfAnInfo(handle, comment);
 	}
 
@@ -98,7 +115,7 @@ ITakesPictureOfItSelf, IDestroyable {
 	 * attached picture (optionally)
 	 */		
 	@Override
-	public synchronized void takeAPictureOfASevere(String comment) {
+	public void takeAPictureOfASevere(String comment) {
 		nativeManager.takeAPictureOfASevere(handle, comment);
 	}
 
@@ -108,7 +125,7 @@ ITakesPictureOfItSelf, IDestroyable {
 	 * attached picture (optionally)
 	 */		
 	@Override
-	public synchronized void takeAPictureOfAWarning(String comment) {
+	public void takeAPictureOfAWarning(String comment) {
 		nativeManager.takeAPictureOfAWarning(handle, comment);
 	}
 
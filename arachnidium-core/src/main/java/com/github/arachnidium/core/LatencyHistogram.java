@@ -0,0 +1,145 @@
+package com.github.arachnidium.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies. It is like the HDR histogram: values are
+ * kept in power of two ranges and each range is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets. So any recorded value is known
+ * with about 6% precision and the memory footprint is constant.<br/>
+ * <br/>
+ * Values are nanoseconds. Values longer than 2^40 ns (~18 minutes) are
+ * counted as 2^40 ns. The exact maximum is kept separately.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_MAGNITUDE = 40;
+	private static final long MAX_TRACKABLE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+	private static final int BUCKET_COUNT = SUB_BUCKETS
+			+ (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	private static int indexOf(long nanos) {
+		long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE);
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+		int shift = magnitude - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+		return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+	}
+
+	// the greatest value which is counted by the bucket
+	private static long highestValueOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+		int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * @param nanos is the latency of a call
+	 * @param failed is <code>true</code> when the call has thrown an
+	 *            exception
+	 */
+	public void record(long nanos, boolean failed) {
+		buckets.incrementAndGet(indexOf(nanos));
+		count.incrementAndGet();
+		if (failed) {
+			failures.incrementAndGet();
+		}
+		totalNanos.addAndGet(nanos);
+		long current = maxNanos.get();
+		while (nanos > current && !maxNanos.compareAndSet(current, nanos)) {
+			current = maxNanos.get();
+		}
+	}
+
+	/**
+	 * @return Count of recorded calls
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * @return Count of recorded calls which have thrown exceptions
+	 */
+	public long getFailureCount() {
+		return failures.get();
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return Total time of recorded calls
+	 */
+	public long getTotal(TimeUnit unit) {
+		return unit.convert(totalNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return The longest call
+	 */
+	public long getMax(TimeUnit unit) {
+		return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param unit is the required {@link TimeUnit}
+	 * @return The average latency
+	 */
+	public double getMean(TimeUnit unit) {
+		long calls = count.get();
+		if (calls == 0) {
+			return 0;
+		}
+		return (double) totalNanos.get() / calls
+				/ TimeUnit.NANOSECONDS.convert(1, unit);
+	}
+
+	/**
+	 * @param percentile is a value from 0 to 100
+	 * @param unit is the required {@link TimeUnit}
+	 * @return The latency which is not exceeded by the given percentage of
+	 *         calls. It is the upper bound of the found bucket
+	 */
+	public double getPercentile(double percentile, TimeUnit unit) {
+		long calls = count.get();
+		if (calls == 0) {
+			return 0;
+		}
+		long rank = Math.max(1,
+				(long) Math.ceil(Math.min(percentile, 100) / 100 * calls));
+		long max = maxNanos.get();
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += buckets.get(i);
+			if (seen >= rank) {
+				return (double) Math.min(highestValueOf(i), max)
+						/ TimeUnit.NANOSECONDS.convert(1, unit);
+			}
+		}
+		return (double) max / TimeUnit.NANOSECONDS.convert(1, unit);
+	}
+
+	@Override
+	public String toString() {
+		TimeUnit ms = TimeUnit.MILLISECONDS;
+		return String.format("count: %d (failed %d), mean/p50/p90/p99/max: "
+				+ "%.2f/%.2f/%.2f/%.2f/%.2f ms", getCount(), getFailureCount(),
+				getMean(ms), getPercentile(50, ms), getPercentile(90, ms),
+				getPercentile(99, ms), getPercentile(100, ms));
+	}
+}
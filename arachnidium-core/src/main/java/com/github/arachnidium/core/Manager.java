@@ -1,11 +1,12 @@
 package com.github.arachnidium.core;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.ParameterizedType;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 
 import com.github.arachnidium.util.logging.Log;
@@ -19,9 +20,13 @@ import org.springframework.context.annotation.Bean;
 
 import com.github.arachnidium.core.components.common.AlertHandler;
 import com.github.arachnidium.core.components.common.Awaiting;
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.core.interfaces.IHasHandle;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
+import com.github.arachnidium.core.profiling.TraceTrack;
 import com.github.arachnidium.core.settings.AlertIsPresentTimeOut;
 import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
 
@@ -47,8 +52,10 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	boolean isAlive = true;
 	private final HandleReceptionist handleReceptionist = new HandleReceptionist();
 
-	private final static Map<WebDriverEncapsulation, Manager<?,?>> managerMap = Collections
-			.synchronizedMap(new HashMap<WebDriverEncapsulation, Manager<?,?>>());
+	// both sessions and managers are weakly referenced: the manager refers to
+	// its session. So a session which is not quit properly is collected anyway
+	private final static Map<WebDriverEncapsulation, WeakReference<Manager<?,?>>> managerMap = Collections
+			.synchronizedMap(new WeakHashMap<WebDriverEncapsulation, WeakReference<Manager<?,?>>>());
 	final static long defaultTimeOut = 5; // we will wait
 	private String STUB_HANDLE = "STUB";
 	
@@ -62,13 +69,16 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	@SuppressWarnings("unchecked")
 	public static <T extends Manager<?,?>> T getInstanstiatedManager(
 			WebDriverEncapsulation driverEncapsulation) {
-		return (T) managerMap.get(driverEncapsulation);
+		WeakReference<Manager<?,?>> reference = managerMap.get(driverEncapsulation);
+		if (reference == null)
+			return null;
+		return (T) reference.get();
 	}
 
 	Manager(WebDriverEncapsulation initialDriverEncapsulation) {
 		driverEncapsulation = initialDriverEncapsulation;
 		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
-		managerMap.put(driverEncapsulation, this);
+		managerMap.put(driverEncapsulation, new WeakReference<Manager<?,?>>(this));
 		driverEncapsulation.addDestroyable(this);
 	}
 
@@ -110,11 +120,12 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @return {@link Alert} which is present
 	 * @throws {@link NoAlertPresentException}
 	 */
-	public synchronized Alert getAlert(long timeOut)
+	public Alert getAlert(long timeOut)
 			throws NoAlertPresentException {
-		return driverEncapsulation.getComponent(AlertHandler.class,
-				new Class[] { long.class },
-				new Object[] { timeOut });
+		return driverEncapsulation.getCommandSerializer().call(
+				() -> driverEncapsulation.getComponent(AlertHandler.class,
+						new Class[] { long.class },
+						new Object[] { timeOut }));
 	}
 
 	/**
@@ -211,7 +222,9 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	
 	/**
 	 * Returns window on mobile context 
-	 * by conditions. 
+	 * by conditions. The handle is resolved only once. 
+	 * The result is used to find the already instantiated object
+	 * and to create a new one.
 	 * 
 	 * @param timeOut It is an explicitly given time (seconds) to wait for
 	 *            window/mobile context is present
@@ -221,7 +234,23 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 *  
 	 * @see IHowToGetHandle. 
 	 */
-	abstract V getRealHandle(long timeOut, U howToGet);	
+	@SuppressWarnings("unchecked")
+	V getRealHandle(long timeOut, U howToGet) {
+		HandleMatch match = resolve(timeOut, howToGet);
+		V initiated = (V) Handle.isInitiated(match.getHandle(), this);
+		if (initiated != null) {
+			return initiated;
+		}
+		return createListenableHandle(match);
+	}
+	
+	/**
+	 * Creates a new listenable window or mobile context
+	 * 
+	 * @param match is the result of {@link #resolve(long, IHowToGetHandle)}
+	 * @return Window or mobile context.
+	 */
+	abstract V createListenableHandle(HandleMatch match);
 
 	WebDriverEncapsulation getWebDriverEncapsulation() {
 		return driverEncapsulation;
@@ -238,14 +267,51 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 		return isAlive;
 	}
 
+	/**
+	 * Performs {@link #changeActive(String)}. It is recorded 
+	 * by {@link FlightRecorderEvents} and {@link TraceTrack}
+	 */
+	void activate(String handle) {
+		TraceTrack trace = driverEncapsulation.getTraceTrack();
+		Object event = FlightRecorderEvents.begin(Operation.HANDLE_SWITCH);
+		long startedAt = trace.begin();
+		try {
+			changeActive(handle);
+			trace.setActiveHandle(handle);
+		} finally {
+			trace.end(startedAt, "switch", "switch to window/context", handle);
+			FlightRecorderEvents.end(event, handle);
+		}
+	}
+	
+	/**
+	 * Takes a picture of the given window/mobile context.
+	 * It is written to {@link TraceTrack}
+	 * 
+	 * @param handle String window handle/context name
+	 * @param photographer invokes {@link Photographer}
+	 */
+	private void takeAPicture(String handle, Runnable photographer) {
+		driverEncapsulation.getCommandSerializer().run(() -> {
+			activate(handle);
+			TraceTrack trace = driverEncapsulation.getTraceTrack();
+			long startedAt = trace.begin();
+			try {
+				photographer.run();
+			} finally {
+				trace.end(startedAt, "screenshot", "screenshot", handle);
+			}
+		});
+	}
+
 	/**
 	 * Sets focus on window/mobile context by string 
 	 * parameter
 	 * 
 	 * @param String window handle/context name
 	 */
-	synchronized void switchTo(String Handle) {
-		changeActive(Handle);
+	void switchTo(String Handle) {
+		driverEncapsulation.getCommandSerializer().run(() -> activate(Handle));
 	}
 
 	/**
@@ -253,11 +319,13 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 *            window/mobile context is present
 	 *            
 	 * @param howToGet Given strategy. 
-	 * @return Window handle/context name
+	 * @return Window handle/context name and values 
+	 * which were read when it was found
 	 * 
 	 * @see IHowToGetHandle
+	 * @see HandleMatch
 	 */
-	abstract String getStringHandle(long timeOut, U howToGet);
+	abstract HandleMatch resolve(long timeOut, U howToGet);
 
 	/**
 	 * Takes a picture of the given window/mobile context.
@@ -267,10 +335,9 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @param handle String window handle/context name
 	 * @param comment Narrative message text
 	 */
-	synchronized void takeAPictureOfAFine(String handle, String comment) {
-		changeActive(handle);
-		Photographer.takeAPictureOfAFine(
-				driverEncapsulation.getWrappedDriver(), comment);
+	void takeAPictureOfAFine(String handle, String comment) {
+		takeAPicture(handle, () -> Photographer.takeAPictureOfAFine(
+				driverEncapsulation.getWrappedDriver(), comment));
 	}
 
 	/**
@@ -281,10 +348,9 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @param handle String window handle/context name
 	 * @param comment Narrative message text
 	 */	
-	synchronized void takeAPictureOfAnInfo(String handle, String comment) {
-		changeActive(handle);
-		Photographer.takeAPictureOfAnInfo(
-				driverEncapsulation.getWrappedDriver(), comment);
+	void takeAPictureOfAnInfo(String handle, String comment) {
+		takeAPicture(handle, () -> Photographer.takeAPictureOfAnInfo(
+				driverEncapsulation.getWrappedDriver(), comment));
 	}
 	
 	/**
@@ -295,10 +361,9 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @param handle String window handle/context name
 	 * @param comment Narrative message text
 	 */		
-	synchronized void takeAPictureOfASevere(String handle, String comment) {
-		changeActive(handle);
-		Photographer.takeAPictureOfASevere(
-				driverEncapsulation.getWrappedDriver(), comment);
+	void takeAPictureOfASevere(String handle, String comment) {
+		takeAPicture(handle, () -> Photographer.takeAPictureOfASevere(
+				driverEncapsulation.getWrappedDriver(), comment));
 	}
 
 	/**
@@ -309,10 +374,9 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * @param handle String window handle/context name
 	 * @param comment Narrative message text
 	 */		
-	synchronized void takeAPictureOfAWarning(String handle, String comment) {
-		changeActive(handle);
-		Photographer.takeAPictureOfAWarning(
-				driverEncapsulation.getWrappedDriver(), comment);
+	void takeAPictureOfAWarning(String handle, String comment) {
+		takeAPicture(handle, () -> Photographer.takeAPictureOfAWarning(
+				driverEncapsulation.getWrappedDriver(), comment));
 	}
 	
 	/**
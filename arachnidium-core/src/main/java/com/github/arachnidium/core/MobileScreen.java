@@ -4,6 +4,7 @@ import org.openqa.selenium.ScreenOrientation;
 import org.openqa.selenium.WebDriver;
 
 import com.github.arachnidium.core.components.mobile.Rotator;
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
 import com.github.arachnidium.core.interfaces.IContext;
 
 /**
@@ -14,7 +15,11 @@ public class MobileScreen extends Handle implements IContext {
 	private final Rotator rotator;
 
 	MobileScreen(String context, ScreenManager manager) {
-		super(context, manager);
+		this(new HandleMatch(context, null, null), manager);
+	}
+	
+	MobileScreen(HandleMatch match, ScreenManager manager) {
+		super(match, manager);
 		rotator = driverEncapsulation.getComponent(Rotator.class);
 	}
 
@@ -22,18 +27,26 @@ public class MobileScreen extends Handle implements IContext {
 	 * @see org.openqa.selenium.Rotatable#getOrientation()
 	 */
 	@Override
-	public synchronized ScreenOrientation getOrientation() {
-		switchToMe();
-		return rotator.getOrientation();
+	public ScreenOrientation getOrientation() {
+		return serializer.call(() -> {
+			switchToMe();
+			return rotator.getOrientation();
+		});
 	}
 
 	/**
 	 * @see org.openqa.selenium.Rotatable#rotate(org.openqa.selenium.ScreenOrientation)
 	 */
 	@Override
-	public synchronized void rotate(ScreenOrientation orientation) {
-		switchToMe();
-		rotator.rotate(orientation);
+	public void rotate(ScreenOrientation orientation) {
+		serializer.run(() -> {
+			switchToMe();
+			try {
+				rotator.rotate(orientation);
+			} finally {
+				((ScreenManager) nativeManager).getContextCache().invalidate();
+			}
+		});
 	}
 
 	@Override
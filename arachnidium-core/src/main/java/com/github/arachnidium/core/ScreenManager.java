@@ -12,13 +12,16 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.components.mobile.ContextTool;
+import com.github.arachnidium.core.fluenthandle.ContextCache;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
 import com.github.arachnidium.core.fluenthandle.FluentScreenWaiting;
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
 import com.github.arachnidium.util.logging.Log;
 
 public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScreen> {
 	private final ContextTool contextTool;
 	private final boolean isSupportActivities;
+	private final ContextCache contextCache = new ContextCache();
 	
 	private final String NATIVE_APP_CONTEXT = "NATIVE_APP";
 	private String SPLITTER = "/";
@@ -42,14 +45,31 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	@Override
 	void changeActive(String context) throws NoSuchContextException {
 		String[] handles = context.split(SPLITTER);
-		contextTool.context(handles[0]);
+		contextCache.switchToContext(contextTool, handles[0]);
 		if (handles.length == 1){
 			return;
 		}
 		if (handles.length == 2 && handles[0].contains(NATIVE_APP_CONTEXT))
 			throw new IllegalArgumentException("In cases when you want to get to the page you should be "
 					+ "inside " + WEBVIEW_CONTEXT + " context. The current context is " + handles[0]);
-		getWrappedDriver().switchTo().window(handles[1]);		
+		contextCache.switchToPage(getWrappedDriver(), handles[1]);		
+	}
+	
+	/**
+	 * @return {@link ContextCache} which tracks the current context/page 
+	 * and counts switches which have been performed and avoided
+	 */
+	public ContextCache getContextCache() {
+		return contextCache;
+	}
+	
+	/**
+	 * @see com.github.arachnidium.core.Manager#destroy()
+	 */
+	@Override
+	public void destroy() {
+		Log.debug("Context switching statistics: " + contextCache.toString());
+		super.destroy();
 	}
 
 	private HowToGetMobileScreen isSupportActivities(
@@ -65,20 +85,24 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	 */
 	@Override
 	public Set<String> getHandles() {
-		return contextTool.getContextHandles();
+		return contextCache.contextsAre(contextTool.getContextHandles());
 	}
 
+	/**
+	 * @see com.github.arachnidium.core.Manager#resolve(long,
+	 *      com.github.arachnidium.core.fluenthandle.IHowToGetHandle)
+	 */
 	@Override
-	String getStringHandle(long timeOut, HowToGetMobileScreen howToGet)
+	HandleMatch resolve(long timeOut, HowToGetMobileScreen howToGet)
 			throws NoSuchContextException {
-		HowToGetMobileScreen clone = howToGet.cloneThis();
+		HowToGetMobileScreen clone = isSupportActivities(howToGet.cloneThis());
 		HowToGetPage howToGetPage = clone.getHowToGetPageStrategy();
 		
 		//This expected condition tries to find context.
 		//If WEBVIEW is found and page parameters are defined 
 		//then it attempts to find a required page inside WEBVIEW
 		ExpectedCondition<String> ec = input -> {
-			String context = clone.getExpectedCondition(new FluentScreenWaiting()).apply(input);
+			String context = clone.getExpectedCondition(new FluentScreenWaiting(contextCache)).apply(input);
 			if (howToGetPage == null)
 				return context;
 			
@@ -98,8 +122,8 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 		};
 		
 		try {						
-			return awaiting.
-					awaitCondition(timeOut, ec);
+			String handle = awaiting.awaitCondition(timeOut, ec);
+			return new HandleMatch(handle, null, null);
 			
 		} catch (TimeoutException e) {
 			String errorMessage = "Can't find screen! Condition is "
@@ -112,15 +136,8 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	}
 
 	@Override
-	MobileScreen getRealHandle(long timeOut,
-			HowToGetMobileScreen howToGet) {
-		String handle = this.getStringHandle(timeOut,
-				isSupportActivities(howToGet));
-		MobileScreen initedContext = (MobileScreen) Handle.isInitiated(handle,
-				this);
-		if (initedContext != null)
-			return initedContext;
-		MobileScreen context = new MobileScreen(handle, this);
+	MobileScreen createListenableHandle(HandleMatch match) {
+		MobileScreen context = new MobileScreen(match, this);
 		return returnNewCreatedListenableHandle(context,
 				MainBeanConfiguration.MOBILE_CONTEXT_BEAN);
 	}
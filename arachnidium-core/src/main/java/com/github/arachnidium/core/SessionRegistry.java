@@ -0,0 +1,184 @@
+package com.github.arachnidium.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.arachnidium.core.services.DriverServicePool;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * The registry of live sessions ({@link WebDriverEncapsulation} instances
+ * which haven't been destroyed yet).<br/>
+ * <br/>
+ * {@link #quitAll(long, TimeUnit)} quits all of them in parallel. Each session
+ * is destroyed by its own daemon thread. So the caller waits for the slowest
+ * session only and no longer than the given time out. A hung remote session
+ * doesn't block the others. Sessions which have failed or haven't been quit
+ * in time are reported.<br/>
+ * <br/>
+ * The shutdown hook quits sessions which are still alive when the JVM exits
+ * (the suite is over without quit or the JVM is interrupted). The time out
+ * of each session is defined by the <code>arachnidium.shutdown.timeout</code>
+ * system property (seconds, 30 by default). Services of
+ * {@link DriverServicePool} are stopped by the same hook after that.<br/>
+ * <br/>
+ * Sessions are strongly referenced. So sessions which are abandoned without
+ * quit are still quit by the hook. Each session is removed by
+ * {@link WebDriverEncapsulation#destroy()}.
+ */
+public final class SessionRegistry {
+	public final static String SHUTDOWN_TIMEOUT_PROPERTY = "arachnidium.shutdown.timeout";
+	private final static long DEFAULT_SHUTDOWN_TIMEOUT = 30;
+	private static final String THREAD_NAME = "arachnidium-session-quit-";
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	// session -> its name which is used by reports
+	private static final Map<WebDriverEncapsulation, String> sessions = new IdentityHashMap<WebDriverEncapsulation, String>();
+	private static boolean isHookAdded;
+
+	private SessionRegistry() {
+		super();
+	}
+
+	static void register(WebDriverEncapsulation session, String name) {
+		synchronized (sessions) {
+			sessions.put(session, name);
+		}
+		addShutdownHook();
+	}
+
+	/**
+	 * Adds the shutdown hook if it hasn't been added yet. The hook quits
+	 * live sessions and then stops services of
+	 * {@link DriverServicePool}. So services are not stopped while
+	 * sessions are still being quit.
+	 */
+	public static void addShutdownHook() {
+		synchronized (sessions) {
+			if (!isHookAdded) {
+				Runtime.getRuntime().addShutdownHook(
+						new Thread(SessionRegistry::quitOnShutdown,
+								"arachnidium-sessions-quitting"));
+				isHookAdded = true;
+			}
+		}
+	}
+
+	static void unregister(WebDriverEncapsulation session) {
+		synchronized (sessions) {
+			sessions.remove(session);
+		}
+	}
+
+	/**
+	 * @return the count of sessions which are alive
+	 */
+	public static int size() {
+		synchronized (sessions) {
+			return sessions.size();
+		}
+	}
+
+	/**
+	 * @return the time out of each session which is defined by the
+	 *         <code>arachnidium.shutdown.timeout</code> system property
+	 *         (seconds)
+	 */
+	public static long getShutdownTimeOut() {
+		return Long.parseLong(System.getProperty(SHUTDOWN_TIMEOUT_PROPERTY,
+				String.valueOf(DEFAULT_SHUTDOWN_TIMEOUT)));
+	}
+
+	private static void quitOnShutdown() {
+		try {
+			if (size() == 0) {
+				return;
+			}
+			List<String> failed = quitAll(getShutdownTimeOut(),
+					TimeUnit.SECONDS);
+			// handlers of java.util.logging may be already closed by its own
+			// hook
+			if (!failed.isEmpty()) {
+				System.err.println("Sessions which have not been closed: "
+						+ failed);
+			}
+		} finally {
+			DriverServicePool.stopAll();
+		}
+	}
+
+	/**
+	 * Quits all live sessions in parallel. See
+	 * {@link WebDriverEncapsulation#destroy()}
+	 *
+	 * @param timeOut is the time to wait for each session
+	 * @param timeUnit is the {@link TimeUnit} of the time out
+	 * @return names of sessions which have failed or haven't been quit in
+	 *         time. Threads of sessions which haven't been quit in time are
+	 *         left running. They are daemons.
+	 */
+	public static List<String> quitAll(long timeOut, TimeUnit timeUnit) {
+		Map<WebDriverEncapsulation, String> toBeQuit;
+		synchronized (sessions) {
+			toBeQuit = new IdentityHashMap<WebDriverEncapsulation, String>(
+					sessions);
+		}
+		if (toBeQuit.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Log.message("Quitting of " + toBeQuit.size() + " live session(s)");
+
+		ExecutorService executor = Executors.newCachedThreadPool((runnable) -> {
+			Thread thread = new Thread(runnable, THREAD_NAME
+					+ threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<String> names = new ArrayList<String>();
+		List<Future<?>> quitting = new ArrayList<Future<?>>();
+		try {
+			toBeQuit.forEach((session, name) -> {
+				names.add(name);
+				quitting.add(executor.submit(session::destroy));
+			});
+		} finally {
+			executor.shutdown();
+		}
+		toBeQuit.clear();
+
+		List<String> failed = new ArrayList<String>();
+		long deadline = System.nanoTime() + timeUnit.toNanos(timeOut);
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			try {
+				quitting.get(i).get(Math.max(0, deadline - System.nanoTime()),
+						TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				failed.add(name);
+				Log.warning("Session " + name + " hasn't been quit in "
+						+ timeOut + " " + timeUnit.toString().toLowerCase());
+			} catch (ExecutionException e) {
+				failed.add(name);
+				Log.warning("Quitting of session " + name + " has failed",
+						e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failed.add(name);
+			}
+		}
+		if (!failed.isEmpty()) {
+			Log.warning("Sessions which have not been closed: " + failed);
+		}
+		return failed;
+	}
+}
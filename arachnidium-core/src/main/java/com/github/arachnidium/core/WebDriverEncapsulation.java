@@ -17,23 +17,42 @@
 
 package com.github.arachnidium.core;
 
+import java.io.File;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.springframework.aop.framework.Advised;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.support.AbstractApplicationContext;
 
 import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.components.ComponentFactory;
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 import com.github.arachnidium.core.components.common.TimeOut;
+import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
+import com.github.arachnidium.core.highlighting.WebElementHighLighter;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
+import com.github.arachnidium.core.profiling.TraceRecorder;
+import com.github.arachnidium.core.profiling.TraceTrack;
+import com.github.arachnidium.core.replay.ReplayCommandExecutor;
+import com.github.arachnidium.core.replay.ReplayWebDriver;
+import com.github.arachnidium.core.replay.SessionRecorder;
+import com.github.arachnidium.core.services.DriverServicePool;
+import com.github.arachnidium.core.services.PooledServiceWebDriver;
+import com.github.arachnidium.core.settings.ScreenShots;
+import com.github.arachnidium.core.settings.WebDriverTimeOuts;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.core.settings.supported.ExtendedCapabilityType;
 import com.github.arachnidium.util.configuration.Configuration;
@@ -50,14 +69,64 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
 public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		WrapsDriver, IConfigurationWrapper {
 
+	/**
+	 * If this system property is "false" then components which are marked by
+	 * {@link SessionSingleton} are created by each call of
+	 * {@link #getComponent(Class)} too. It is used to compare both ways
+	 */
+	public final static String SHARED_COMPONENTS_PROPERTY = "arachnidium.components.shared";
+	private final static boolean ARE_COMPONENTS_SHARED = !"false"
+			.equalsIgnoreCase(System.getProperty(SHARED_COMPONENTS_PROPERTY));
+
 	private final RemoteWebDriver enclosedDriver;
 
 	private Configuration configuration = Configuration.byDefault;
 	final AbstractApplicationContext context = new AnnotationConfigApplicationContext(
 			MainBeanConfiguration.class);
 	private final DestroyableObjects destroyableObjects = new DestroyableObjects();
+	private final CommandSerializer commandSerializer = new CommandSerializer();
+	private final CommandStatistics commandStatistics = new CommandStatistics();
+	private final PhaseProfiler phaseProfiler = new PhaseProfiler();
+	private final TraceTrack traceTrack = TraceRecorder.newTrack("Session");
+	private final SessionRecorder sessionRecorder = SessionRecorder.newRecorder();
+	private final Map<Class<? extends WebdriverComponent>, WebdriverComponent> components = 
+			new ConcurrentHashMap<Class<? extends WebdriverComponent>, WebdriverComponent>();
 	private final TimeOut timeOut;
+	private final WebElementHighLighter highLighter = new WebElementHighLighter(traceTrack);
+	// time outs are changed by remote commands. So they are serialized
+	private final IConfigurable timeOutResetting = new WeakSubscriber(this,
+			WebDriverEncapsulation::resetTimeOuts);
+	private final IConfigurable highLighterResetting = new WeakSubscriber(this,
+			(session, config) -> session.highLighter.resetAccordingTo(config));
 	private final ESupportedDrivers instantiatedESupportedDriver;
+	private boolean isDestroyed;
+	
+	/**
+	 * The {@link Configuration} refers to its subscribers. This subscriber
+	 * refers to the session weakly. So the session which hasn't been 
+	 * destroyed (e.g. it is abandoned without quit) can be collected. Then 
+	 * the subscriber unsubscribes itself on the next reloading.
+	 */
+	private static final class WeakSubscriber implements IConfigurable {
+		private final WeakReference<WebDriverEncapsulation> session;
+		private final BiConsumer<WebDriverEncapsulation, Configuration> resetting;
+
+		private WeakSubscriber(WebDriverEncapsulation session,
+				BiConsumer<WebDriverEncapsulation, Configuration> resetting) {
+			this.session = new WeakReference<WebDriverEncapsulation>(session);
+			this.resetting = resetting;
+		}
+
+		@Override
+		public void resetAccordingTo(Configuration config) {
+			WebDriverEncapsulation session = this.session.get();
+			if (session == null) {
+				config.unsubscribe(this);
+				return;
+			}
+			resetting.accept(session, config);
+		}
+	}
 	
 	/**
 	 * Creates and wraps an instance of required {@link RemoteWebDriver}
@@ -119,7 +188,12 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 
 	/**
 	 * Allows to instantiate the selected {@link WebDriver} by given parameters.
-	 * These parameters should correspond existing {@link WebDriver} constructors
+	 * These parameters should correspond existing {@link WebDriver} constructors.<br/>
+	 * If the {@link ReplayCommandExecutor#REPLAY_PROPERTY} system property is 
+	 * defined then the recorded session is replayed by {@link ReplayWebDriver} 
+	 * instead. If local services are pooled by {@link DriverServicePool} then
+	 * the session is started by {@link PooledServiceWebDriver} at the pooled 
+	 * service.
 	 * 
 	 * @param supporteddriver the selected {@link WebDriver} representation
 	 * @param values they are used to launch {@link WebDriver}
@@ -128,16 +202,36 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 			Object... values) {
 		try {
 			Class<? extends WebDriver> driverClass = supporteddriver.getUsingWebDriverClass();
-			Constructor<?> c = ExecutableUtil.getRelevantConstructor(driverClass, values);
+			Object[] driverValues = values;
+			if (ReplayCommandExecutor.IS_ENABLED) {
+				File recording = ReplayCommandExecutor.nextRecording();
+				Log.message("Session is replayed from "
+						+ recording.getAbsolutePath());
+				driverClass = ReplayWebDriver.class;
+				driverValues = new Object[] { recording };
+			} else if (values.length == 1 && values[0] instanceof Capabilities) {
+				URL serviceUrl = supporteddriver.getPooledServiceURL();
+				if (serviceUrl != null) {
+					driverClass = PooledServiceWebDriver.class;
+					driverValues = new Object[] { serviceUrl, values[0] };
+				}
+			}
+			Constructor<?> c = ExecutableUtil.getRelevantConstructor(driverClass, driverValues);
 			
 			if (c == null){
 				throw new NoSuchMethodException(driverClass.getName() + " has no constructor that matches " +
-						"given parameters " + Arrays.asList(values).toString());
+						"given parameters " + Arrays.asList(driverValues).toString());
 			}
 			
 			enclosedDriver = (RemoteWebDriver) context.getBean(
 					MainBeanConfiguration.WEBDRIVER_BEAN, context, this,
-					destroyableObjects, driverClass, c.getParameterTypes(), values);
+					destroyableObjects, driverClass, c.getParameterTypes(), driverValues,
+					commandStatistics, traceTrack, sessionRecorder);
+			commandStatistics.register(String.valueOf(enclosedDriver.getSessionId()));
+			String sessionName = driverClass.getSimpleName() + " "
+					+ enclosedDriver.getSessionId();
+			traceTrack.addLabel(sessionName);
+			SessionRegistry.register(this, sessionName);
 			Log.message("Getting started with " + driverClass.getSimpleName());
 			timeOut = getComponent(TimeOut.class);
 			resetAccordingTo(configuration);
@@ -181,16 +275,54 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	
 	/**
 	 * Attempts to shut down {@link RemoteWebDriver} and destroys all related
-	 * information
+	 * information. The summary of {@link CommandStatistics} and the report of
+	 * {@link PhaseProfiler} are logged. The {@link TraceTrack} is closed.<br/>
+	 * <br/>
+	 * All resources of the session are released: registered 
+	 * {@link IDestroyable} objects are destroyed even if the driver can't be 
+	 * quit, components are forgotten and the Spring context is closed. 
+	 * Nothing of the session should be used after that. The second call 
+	 * does nothing.<br/>
+	 * <br/>
+	 * Sessions which are still alive are destroyed in parallel by 
+	 * {@link SessionRegistry} when the JVM exits.
 	 */
 	@Override
 	public void destroy() {
-		if (enclosedDriver == null)
-			return;
+		synchronized (this) {
+			if (isDestroyed)
+				return;
+			isDestroyed = true;
+		}
+		SessionRegistry.unregister(this);
+		configuration.unsubscribe(timeOutResetting);
+		configuration.unsubscribe(highLighterResetting);
+		try {
+			if (enclosedDriver != null)
+				quit();
+		} finally {
+			// they are destroyed after quit. It is done even if quit fails
+			destroyableObjects.destroy();
+			components.clear();
+			context.close();
+		}
+	}
+
+	private void quit() {
+		Log.debug("Command serializer statistics: "
+				+ commandSerializer.toString());
 		try {
 			enclosedDriver.quit();
 		} catch (WebDriverException e) { // it may be already dead
-			return;
+		} finally {
+			Log.message("Command statistics: " + commandStatistics.getSummary());
+			commandStatistics.unregister();
+			if (!phaseProfiler.isEmpty()) {
+				Log.message("Profile of the session:\n"
+						+ phaseProfiler.getReport());
+			}
+			traceTrack.close();
+			sessionRecorder.close();
 		}
 	}
 
@@ -203,11 +335,27 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	}
 
 	/**
+	 * Components which are marked by {@link SessionSingleton} have no 
+	 * state except the wrapped {@link WebDriver}. So there is only one 
+	 * instance of each such component per session. It is created by the 
+	 * first call. Other components (e.g. {@link TimeOut}) are created by 
+	 * each call.
+	 * 
 	 * @param required {@link WebdriverComponent} subclass
 	 * @return The instance of required {@link WebdriverComponent} subclass
 	 */
+	@SuppressWarnings("unchecked")
 	public <T extends WebdriverComponent> T getComponent(Class<T> required) {
-		return ComponentFactory.getComponent(required, enclosedDriver);
+		if (!ARE_COMPONENTS_SHARED
+				|| !required.isAnnotationPresent(SessionSingleton.class)) {
+			return ComponentFactory.getComponent(required, enclosedDriver);
+		}
+		WebdriverComponent component = components.get(required);
+		if (component == null) {
+			component = components.computeIfAbsent(required,
+					(c) -> ComponentFactory.getComponent(c, enclosedDriver));
+		}
+		return (T) component;
 	}
 
 	/**
@@ -222,7 +370,8 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	 * {@link WebDriver} instance + given Object[] should match to {@link WebdriverComponent} subclass
 	 * constructor 
 	 * 
-	 * @return The instance of required {@link WebdriverComponent} subclass
+	 * @return The new instance of required {@link WebdriverComponent} subclass. 
+	 * Such components are created by each call.
 	 */
 	public <T extends WebdriverComponent> T getComponent(Class<T> required,
 			Class<?>[] params, Object[] values) {
@@ -238,16 +387,48 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		return enclosedDriver;
 	}
 
+	/**
+	 * @return the {@link WebDriver} which is wrapped by the listenable one.
+	 * Its commands are not seen by aspects and listeners. Remote commands
+	 * are still counted.
+	 */
+	WebDriver getUnlistenableDriver() {
+		if (!(enclosedDriver instanceof Advised)) {
+			return enclosedDriver;
+		}
+		try {
+			return (WebDriver) ((Advised) enclosedDriver).getTargetSource()
+					.getTarget();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * This method replaces previous {@link Configuration}
-	 * and applies new given parameters 
+	 * and applies new given parameters.<br/>
+	 * Time outs and the highlighter are subscribed to the given 
+	 * {@link Configuration}. So they are reset again only when 
+	 * related settings are reloaded.
 	 * 
 	 * @see com.github.arachnidium.util.configuration.interfaces.IConfigurable#resetAccordingTo(com.github.arachnidium.util.configuration.Configuration)
+	 * @see Configuration#subscribe(IConfigurable, Class...)
 	 */
 	@Override
 	public synchronized void resetAccordingTo(Configuration config) {
+		if (config != configuration) {
+			configuration.unsubscribe(timeOutResetting);
+			configuration.unsubscribe(highLighterResetting);
+		}
 		configuration = config;
-		timeOut.resetAccordingTo(configuration);
+		config.subscribe(timeOutResetting, WebDriverTimeOuts.class);
+		config.subscribe(highLighterResetting, ScreenShots.class);
+		timeOutResetting.resetAccordingTo(config);
+		highLighter.resetAccordingTo(config);
+	}
+
+	private void resetTimeOuts(Configuration config) {
+		commandSerializer.run(() -> timeOut.resetAccordingTo(config));
 	}
 
 	/**
@@ -260,6 +441,49 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		return configuration;
 	}
 	
+	/**
+	 * @return {@link CommandSerializer} which is used to perform
+	 * sequences of commands of this session one at a time
+	 */
+	public CommandSerializer getCommandSerializer() {
+		return commandSerializer;
+	}
+	
+	/**
+	 * @return {@link CommandStatistics} which counts remote commands of
+	 * this session and records their latencies
+	 */
+	public CommandStatistics getCommandStatistics() {
+		return commandStatistics;
+	}
+	
+	/**
+	 * @return {@link PhaseProfiler} of this session. It profiles something
+	 * only when the {@link PhaseProfiler#PROFILING_PROPERTY} system property
+	 * is "true"
+	 */
+	public PhaseProfiler getPhaseProfiler() {
+		return phaseProfiler;
+	}
+	
+	/**
+	 * @return {@link TraceTrack} of this session. It writes something
+	 * only when the {@link TraceRecorder#TRACE_PROPERTY} system property
+	 * is defined
+	 */
+	public TraceTrack getTraceTrack() {
+		return traceTrack;
+	}
+	
+	/**
+	 * @return {@link IWebElementHighlighter} of this session. Its
+	 * settings are cached and they are changed only when the
+	 * {@link Configuration} is changed or reloaded
+	 */
+	public IWebElementHighlighter getHighlighter(){
+		return highLighter;
+	}
+	
 	public TimeOut getTimeOut(){
 		return timeOut;
 	}
@@ -0,0 +1,24 @@
+package com.github.arachnidium.core;
+
+import com.github.arachnidium.core.bean.MainBeanConfiguration;
+import com.github.arachnidium.core.interfaces.IWatchesHandles;
+
+/**
+ * It is the source of "window handle has appeared/disappeared" 
+ * events. Methods do nothing by themselves. The listenable
+ * instance is created by {@link MainBeanConfiguration} and
+ * listeners are invoked around these methods.
+ */
+class WindowHandleEvents implements IWatchesHandles {
+
+	@Override
+	public void handleIsAppeared(String handle) {
+		// does nothing, for listeners only
+	}
+
+	@Override
+	public void handleIsDisappeared(String handle) {
+		// does nothing, for listeners only
+	}
+
+}
@@ -12,14 +12,42 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
+import com.github.arachnidium.core.interfaces.IWatchesHandles;
 import com.github.arachnidium.core.settings.WindowIsClosedTimeOut;
+import com.github.arachnidium.core.settings.WindowWatching;
 
 public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 
 	private static long TIME_OUT_TO_SWITCH_ON = 2; //two seconds
+	private final WindowWatcher watcher;
 	
 	public WindowManager(WebDriverEncapsulation initialDriverEncapsulation) {
 		super(initialDriverEncapsulation);
+		WindowWatching watching = initialDriverEncapsulation
+				.getWrappedConfiguration().getSection(WindowWatching.class);
+		if (watching.isEventDriven()) {
+			IWatchesHandles events = (IWatchesHandles) initialDriverEncapsulation.context
+					.getBean(MainBeanConfiguration.WINDOW_EVENTS_BEAN,
+							new WindowHandleEvents());
+			watcher = new WindowWatcher(getWrappedDriver(),
+					initialDriverEncapsulation.getUnlistenableDriver(),
+					initialDriverEncapsulation.getCommandSerializer(), events,
+					watching);
+		} else {
+			watcher = null;
+		}
+	}
+
+	/**
+	 * Makes the background window watcher poll fast if it is used.
+	 * It is invoked when a command may open or close a window 
+	 * (clicks, navigation and so on)
+	 */
+	public void nudgeWatcher() {
+		if (watcher != null) {
+			watcher.nudge();
+		}
 	}
 
 	/**
@@ -29,6 +57,7 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	@Override
 	void changeActive(String handle) throws NoSuchWindowException,
 			UnhandledAlertException {
+		nudgeWatcher();
 		Set<String> handles = getHandles();
 		if (!handles.contains(handle))
 			throw new NoSuchWindowException("There is no window with handle "
@@ -56,15 +85,26 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	 * @throws UnhandledAlertException
 	 * @throws UnreachableBrowserException
 	 */
-	synchronized void close(String handle) throws UnclosedWindowException,
+	void close(String handle) throws UnclosedWindowException,
 			NoSuchWindowException, UnhandledAlertException,
 			UnreachableBrowserException {
+		CommandSerializer serializer = getWebDriverEncapsulation()
+				.getCommandSerializer();
+		serializer.lock();
+		try {
+			closeAndAwait(handle);
+		} finally {
+			serializer.unlock();
+		}
+	}
+	
+	private void closeAndAwait(String handle) {
 		long timeOut = getTimeOut(getWebDriverEncapsulation().getWrappedConfiguration()
 				.getSection(WindowIsClosedTimeOut.class)
 				.getWindowIsClosedTimeOutTimeOut());
 
 		try {
-			changeActive(handle);
+			activate(handle);
 			WebDriver driver = getWrappedDriver();
 			driver.switchTo().window(handle).close();
 		} catch (UnhandledAlertException | NoSuchWindowException e) {
@@ -90,6 +130,20 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 		}
 	}
 
+	/**
+	 * Stops the window watcher if it is used and destroys 
+	 * information about related windows
+	 * 
+	 * @see com.github.arachnidium.core.Manager#destroy()
+	 */
+	@Override
+	public void destroy() {
+		if (watcher != null) {
+			watcher.destroy();
+		}
+		super.destroy();
+	}
+
 	/**
 	 * @see com.github.arachnidium.core.Manager#getHandles()
 	 */
@@ -99,19 +153,34 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	}
 
 	/**
-	 * Actual strategy is {@link HowToGetPage}
+	 * Actual strategy is {@link HowToGetPage}. If the event-driven
+	 * mode is turned on (see {@link WindowWatching}) the current
+	 * thread is blocked until the {@link WindowWatcher} reports about
+	 * changes instead of the polling
 	 * 
-	 * @see com.github.arachnidium.core.Manager#getStringHandle(long,
+	 * @see com.github.arachnidium.core.Manager#resolve(long,
 	 *      com.github.arachnidium.core.fluenthandle.IHowToGetHandle)
 	 */
 	@Override
-	String getStringHandle(long timeOut,
+	HandleMatch resolve(long timeOut,
 			HowToGetPage howToGet)
 			throws NoSuchWindowException {
 		HowToGetPage clone = howToGet.cloneThis();
+		FluentPageWaiting fluentPageWaiting = new FluentPageWaiting();
 		try {
-			return awaiting.awaitCondition(timeOut,
-					clone.getExpectedCondition(new FluentPageWaiting()));
+			String handle;
+			if (watcher != null) {
+				handle = watcher.awaitCondition(timeOut,
+						clone.getExpectedCondition(fluentPageWaiting));
+			} else {
+				handle = awaiting.awaitCondition(timeOut,
+						clone.getExpectedCondition(fluentPageWaiting));
+			}
+			HandleMatch match = fluentPageWaiting.getMatch();
+			if (match != null && handle.equals(match.getHandle())) {
+				return match;
+			}
+			return new HandleMatch(handle, null, null);
 		} catch (TimeoutException e) {
 			throw new NoSuchWindowException("Can't find window! Condition is "
 					+ clone.toString(), e);
@@ -153,17 +222,8 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 
 
 	@Override
-	BrowserWindow getRealHandle(long timeOut,
-			HowToGetPage howToGet) {
-		String handle = this.getStringHandle(timeOut,
-				howToGet);
-		BrowserWindow initedWindow = (BrowserWindow) Handle.isInitiated(
-				handle, this);
-		if (initedWindow != null) {
-			return initedWindow;
-		}
-		BrowserWindow window = new BrowserWindow(getStringHandle(timeOut,
-				howToGet), this);
+	BrowserWindow createListenableHandle(HandleMatch match) {
+		BrowserWindow window = new BrowserWindow(match, this);
 		return returnNewCreatedListenableHandle(window,
 				MainBeanConfiguration.WINDOW_BEAN);
 	}
@@ -0,0 +1,249 @@
+package com.github.arachnidium.core;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.SessionNotFoundException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IWatchesHandles;
+import com.github.arachnidium.core.settings.WindowWatching;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * The single background watcher of browser windows which 
+ * is bound with the {@link WindowManager}. It compares sets 
+ * of window handles, reports appeared/disappeared handles
+ * and wakes up threads which are waiting for a window.<br/>
+ * <br/>
+ * The polling interval is adaptive. It is fast just after something
+ * has changed, a window has been switched on or somebody has started
+ * waiting. Then it is doubled each time when nothing happens until it
+ * reaches the idle interval.<br/>
+ * <br/>
+ * Handles are polled by the driver which is not listenable. So polling
+ * doesn't run aspects and listeners. Only appeared/disappeared handles are
+ * reported through the listenable {@link IWatchesHandles}.<br/>
+ * <br/>
+ * Listeners are notified on the watcher thread. The watcher doesn't 
+ * interrupt command sequences of other threads (see {@link CommandSerializer}).
+ * 
+ * @see WindowWatching
+ */
+class WindowWatcher implements IDestroyable {
+
+	// conditions of waiting are applied to the listenable driver
+	private final WebDriver driver;
+	// handles are polled by the driver which is not listenable
+	private final WebDriver pollingDriver;
+	private final CommandSerializer serializer;
+	private final IWatchesHandles events;
+	private final long fastInterval;
+	private final long idleInterval;
+	private final ScheduledExecutorService executor = Executors
+			.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "arachnidium-window-watcher");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private Set<String> knownHandles;
+	private long currentInterval;
+	private ScheduledFuture<?> nextCheck;
+	private CompletableFuture<Set<String>> nextChange = new CompletableFuture<Set<String>>();
+	private boolean isAlive = true;
+
+	WindowWatcher(WebDriver driver, WebDriver pollingDriver,
+			CommandSerializer serializer, IWatchesHandles events,
+			WindowWatching settings) {
+		this.driver = driver;
+		this.pollingDriver = pollingDriver;
+		this.serializer = serializer;
+		this.events = events;
+		this.fastInterval = settings.getFastPollingInterval();
+		this.idleInterval = Math.max(fastInterval,
+				settings.getIdlePollingInterval());
+		this.currentInterval = fastInterval;
+		knownHandles = new HashSet<String>(pollingDriver.getWindowHandles());
+		schedule(fastInterval);
+	}
+
+	private synchronized void schedule(long delay) {
+		if (!isAlive) {
+			return;
+		}
+		nextCheck = executor.schedule(this::check, delay,
+				TimeUnit.MILLISECONDS);
+	}
+
+	private void check() {
+		long delay;
+		try {
+			delay = checkHandles();
+		} catch (RuntimeException e) {
+			// e.g. a listener has failed. Watching goes on
+			Log.warning("Window handles checking has failed", e);
+			delay = slowDown();
+		}
+		schedule(delay);
+	}
+
+	// returns the delay of the next check
+	private long checkHandles() {
+		Set<String> actual;
+		// a command sequence of another thread can't be interrupted.
+		// It will be checked next time
+		if (!serializer.tryLock()) {
+			return speedUp();
+		}
+		try {
+			actual = new HashSet<String>(pollingDriver.getWindowHandles());
+		} catch (UnreachableBrowserException | SessionNotFoundException e) {
+			destroy();
+			return idleInterval;
+		} catch (WebDriverException e) {
+			// e.g. there is an alert. It will be checked next time
+			Log.debug("Window handles can't be checked now. "
+					+ e.getClass().getName() + ": " + e.getMessage());
+			return slowDown();
+		} finally {
+			serializer.unlock();
+		}
+
+		Set<String> appeared = new HashSet<String>(actual);
+		appeared.removeAll(knownHandles);
+		Set<String> disappeared = new HashSet<String>(knownHandles);
+		disappeared.removeAll(actual);
+		knownHandles = actual;
+
+		if (appeared.isEmpty() && disappeared.isEmpty()) {
+			return slowDown();
+		}
+
+		appeared.forEach((handle) -> events.handleIsAppeared(handle));
+		disappeared.forEach((handle) -> events.handleIsDisappeared(handle));
+		publishChange(actual);
+		return speedUp();
+	}
+
+	private synchronized long slowDown() {
+		currentInterval = Math.min(currentInterval * 2, idleInterval);
+		return currentInterval;
+	}
+
+	private synchronized long speedUp() {
+		currentInterval = fastInterval;
+		return currentInterval;
+	}
+
+	private void publishChange(Set<String> actual) {
+		CompletableFuture<Set<String>> changed;
+		synchronized (this) {
+			changed = nextChange;
+			nextChange = new CompletableFuture<Set<String>>();
+		}
+		changed.complete(actual);
+	}
+
+	/**
+	 * Makes the watcher poll fast. It is invoked when something 
+	 * may open or close a window
+	 */
+	synchronized void nudge() {
+		if (!isAlive || currentInterval == fastInterval) {
+			return;
+		}
+		speedUp();
+		if (nextCheck != null && nextCheck.cancel(false)) {
+			schedule(fastInterval);
+		}
+	}
+
+	/**
+	 * Waits for the given condition. The condition is checked 
+	 * at once, then each time when the set of windows is changed
+	 * and at least once per idle interval (e.g. when the title of
+	 * a known window is expected)
+	 * 
+	 * @param secTimeOut Time out in seconds
+	 * @param condition {@link ExpectedCondition} which returns the string handle 
+	 * @return The string handle
+	 * @throws TimeoutException
+	 */
+	String awaitCondition(long secTimeOut, ExpectedCondition<String> condition)
+			throws TimeoutException {
+		long deadLine = System.currentTimeMillis()
+				+ TimeUnit.SECONDS.toMillis(secTimeOut);
+		while (true) {
+			CompletableFuture<Set<String>> change;
+			synchronized (this) {
+				if (!isAlive) {
+					throw new WebDriverException("Window watcher is stopped");
+				}
+				change = nextChange;
+			}
+
+			String result = null;
+			try {
+				result = condition.apply(driver);
+			} catch (NotFoundException e) {
+				// it is ignored like WebDriverWait does
+			}
+			if (result != null) {
+				return result;
+			}
+
+			long remaining = deadLine - System.currentTimeMillis();
+			if (remaining <= 0) {
+				throw new TimeoutException("Timed out after " + secTimeOut
+						+ " seconds waiting for " + condition);
+			}
+			nudge();
+			// the watcher can't check anything while the current 
+			// thread holds the command lock. So it is checked here often
+			long pause = serializer.isHeldByCurrentThread() ? fastInterval
+					: idleInterval;
+			try {
+				change.get(Math.min(remaining, pause),
+						TimeUnit.MILLISECONDS);
+			} catch (java.util.concurrent.TimeoutException e) {
+				// it is time to check the condition again
+			} catch (ExecutionException e) {
+				throw new WebDriverException(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WebDriverException(e);
+			}
+		}
+	}
+
+	/**
+	 * Stops watching
+	 */
+	@Override
+	public void destroy() {
+		CompletableFuture<Set<String>> changed;
+		synchronized (this) {
+			if (!isAlive) {
+				return;
+			}
+			isAlive = false;
+			changed = nextChange;
+		}
+		executor.shutdownNow();
+		changed.completeExceptionally(new WebDriverException(
+				"Window watcher is stopped"));
+	}
+}
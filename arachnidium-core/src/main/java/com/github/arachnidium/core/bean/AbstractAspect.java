@@ -11,8 +11,17 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+
+import com.github.arachnidium.core.WebDriverEncapsulation;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
+import com.github.arachnidium.core.profiling.Phase;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
+import com.github.arachnidium.core.profiling.TraceTrack;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -145,6 +154,43 @@ public abstract class AbstractAspect {
 	private final static Class<?>[] EMPTY_VALUE_ARGS = new Class<?>[] {};
 	private final static Object[] EMPTY_PARAMETER_VALUES = new Object[] {};
 	final IConfigurationWrapper configurationWrapper;
+	private final TraceTrack trace;
+
+	/**
+	 * If this system property is "true" then methods which are not marked by
+	 * {@link BeforeTarget} or {@link AfterTarget} are not listened. Aspects
+	 * just invoke them. Listeners which are defined by SPI receive events from
+	 * marked methods only, so they are covered.
+	 */
+	public final static String NARROW_POINTCUT_PROPERTY = "arachnidium.listeners.narrow";
+	protected final static boolean IS_POINTCUT_NARROWED = Boolean
+			.getBoolean(NARROW_POINTCUT_PROPERTY);
+
+	/**
+	 * Target method name -> target classes. It is computed only once per
+	 * aspect class
+	 */
+	private final static ClassValue<Map<String, List<Class<?>>>> listenedMethods = new ClassValue<Map<String, List<Class<?>>>>() {
+		@Override
+		protected Map<String, List<Class<?>>> computeValue(Class<?> aspectClass) {
+			Map<String, List<Class<?>>> result = new HashMap<String, List<Class<?>>>();
+			for (Method m : aspectClass.getDeclaredMethods()) {
+				for (WhenLaunch when : WhenLaunch.values()) {
+					for (Annotation a : when.getAnnotations(m)) {
+						String targetMethod = getAnnotatonParameter(a,
+								TARGET_METHOD);
+						List<Class<?>> targetClasses = result.get(targetMethod);
+						if (targetClasses == null) {
+							targetClasses = new ArrayList<Class<?>>();
+							result.put(targetMethod, targetClasses);
+						}
+						targetClasses.add(getAnnotatonParameter(a, TARGET_CLASS));
+					}
+				}
+			}
+			return Collections.unmodifiableMap(result);
+		}
+	};
 
 	private static Object getSupportField(Object aspectObject,
 			Class<?> requiredClass) {
@@ -242,6 +288,18 @@ public abstract class AbstractAspect {
 		return null;
 	}
 
+	/**
+	 * @return <code>true</code> if the aspect has methods which
+	 *         should be executed before/after the target method
+	 */
+	protected static boolean isListened(JoinPoint joinPoint,
+			Object aspectObject) {
+		List<Class<?>> targetClasses = listenedMethods.get(
+				aspectObject.getClass()).get(joinPoint.getSignature().getName());
+		return targetClasses != null
+				&& isAssignable(joinPoint.getTarget().getClass(), targetClasses);
+	}
+
 	/**
 	 * Runs method before or after target method
 	 */
@@ -292,17 +350,33 @@ public abstract class AbstractAspect {
 			}
 		}
 
+		TraceTrack trace = ((AbstractAspect) aspectObject).trace;
+		Phase previous = PhaseProfiler.enter(Phase.LISTENERS);
+		Object event = FlightRecorderEvents.begin(Operation.LISTENER_DISPATCH);
+		long startedAt = trace.begin();
 		try {
 			m.setAccessible(true);
 			m.invoke(aspectObject, listerArgValues);
 		} catch (IllegalAccessException | IllegalArgumentException
 				| InvocationTargetException e) {
 			throw new RuntimeException(e);
+		} finally {
+			trace.end(startedAt, "listener", m.getName(), joinPoint
+					.getSignature().getName());
+			FlightRecorderEvents.end(event, m.getName());
+			PhaseProfiler.exit(previous);
 		}
 	}
 	
 	public AbstractAspect(IConfigurationWrapper configurationWrapper){
 		this.configurationWrapper = configurationWrapper;
+		// listener callbacks are written to the track of the session
+		if (configurationWrapper instanceof WebDriverEncapsulation) {
+			trace = ((WebDriverEncapsulation) configurationWrapper)
+					.getTraceTrack();
+		} else {
+			trace = TraceTrack.DISABLED;
+		}
 	}
 	
 	/**
@@ -2,13 +2,6 @@ package com.github.arachnidium.core.bean;
 
 import io.appium.java_client.android.AndroidDriver;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ServiceLoader;
-
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -32,32 +25,8 @@ import com.github.arachnidium.core.settings.ScreenShots;
 class AspectContextListener extends DefaultHandleListener implements
 		IContextListener {
 
-	private final List<IContextListener> contextEventListeners = new ArrayList<IContextListener>() {
-		private static final long serialVersionUID = 1L;
-		{ // SPI
-			Iterator<?> providers = ServiceLoader.load(IContextListener.class)
-					.iterator();
-			while (providers.hasNext())
-				add((IContextListener) providers.next());
-		}
-	};
-	private final InvocationHandler contextListenerInvocationHandler = (proxy,
-			method, args) -> {
-		contextEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-			;
-		});
-		return null;
-	};
-
-	private final IContextListener contextListenerProxy = (IContextListener) Proxy
-			.newProxyInstance(IContextListener.class.getClassLoader(),
-					new Class[] { IContextListener.class },
-					contextListenerInvocationHandler);
+	private final Listeners<IContextListener> contextListeners = ListenerRegistry
+			.getListeners(IContextListener.class, configurationWrapper);
 
 	public AspectContextListener(IConfigurationWrapper configurationWrapper) {
 		super(configurationWrapper);
@@ -71,7 +40,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IContext.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
 		Log.debug("Attempt to switch to context " + handle.getHandle());
-		contextListenerProxy.beforeIsSwitchedOn(handle);
+		contextListeners.fire((listener) -> listener.beforeIsSwitchedOn(handle));
 	}
 
 	/**
@@ -83,7 +52,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	public void whenIsSwitchedOn(@TargetParam IHasHandle handle) {
 		Log.message("Current context is " + handle.getHandle()
 				+ getActivityDescription(handle));
-		contextListenerProxy.whenIsSwitchedOn(handle);
+		contextListeners.fire((listener) -> listener.whenIsSwitchedOn(handle));
 	}
 
 	/**
@@ -102,7 +71,7 @@ class AspectContextListener extends DefaultHandleListener implements
 		} else {
 			Log.message(message);
 		}
-		contextListenerProxy.whenNewHandleIsAppeared(handle);
+		contextListeners.fire((listener) -> listener.whenNewHandleIsAppeared(handle));
 	}
 
 	private String getActivityDescription(IHasHandle handle) {
@@ -125,6 +94,13 @@ class AspectContextListener extends DefaultHandleListener implements
 			+ "execution(* com.github.arachnidium.core.interfaces.ISwitchesToItself.*(..)) || "
 			+ "execution(* org.openqa.selenium.Rotatable.*(..))")
 	public Object doAround(ProceedingJoinPoint point) throws Throwable {
+		if (IS_POINTCUT_NARROWED && !isListened(point, this)) {
+			try {
+				return point.proceed();
+			} catch (Exception e) {
+				throw getRootCause(e);
+			}
+		}
 		launchMethod(point, this, WhenLaunch.BEFORE);
 		Object result = null;
 		try {
@@ -147,7 +123,7 @@ class AspectContextListener extends DefaultHandleListener implements
 		Log.debug("Attempt to rotate screen. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
-		contextListenerProxy.beforeIsRotated(handle, orientation);
+		contextListeners.fire((listener) -> listener.beforeIsRotated(handle, orientation));
 	}
 
 	/**
@@ -161,6 +137,6 @@ class AspectContextListener extends DefaultHandleListener implements
 		Log.debug("Screen was rotated. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
-		contextListenerProxy.whenIsRotated(handle, orientation);
+		contextListeners.fire((listener) -> listener.whenIsRotated(handle, orientation));
 	}
 }
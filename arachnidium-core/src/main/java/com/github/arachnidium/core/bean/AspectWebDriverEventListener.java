@@ -7,17 +7,20 @@ import io.appium.java_client.android.AndroidElement;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.IOSElement;
 
-import java.lang.reflect.Proxy;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.ServiceLoader;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ContextAware;
@@ -27,12 +30,20 @@ import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.support.AbstractApplicationContext;
 
+import com.github.arachnidium.core.Manager;
+import com.github.arachnidium.core.ScreenManager;
+import com.github.arachnidium.core.WebDriverEncapsulation;
+import com.github.arachnidium.core.WindowManager;
 import com.github.arachnidium.core.eventlisteners.IWebDriverEventListener;
+import com.github.arachnidium.core.fluenthandle.ContextCache;
 import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
-import com.github.arachnidium.core.highlighting.WebElementHighLighter;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.profiling.Phase;
+import com.github.arachnidium.core.profiling.PhaseProfiler;
 
 @Aspect
 class AspectWebDriverEventListener extends AbstractAspect implements
@@ -75,7 +86,6 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 
 	@SupportField
 	private final WebDriver driver;
-	private final WebElementHighLighter highLighter = new WebElementHighLighter();
 	private final AbstractApplicationContext context;
 	private final String POINTCUT_VALUE = "execution(* org.openqa.selenium.WebDriver.*(..)) || "
 			+ "execution(* org.openqa.selenium.WebElement.*(..)) ||"
@@ -93,32 +103,63 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			+ "execution(* io.appium.java_client.ios.IOSElement.*(..))"
 			;
 	private final IDestroyable destroyable;
-
-	private final List<IWebDriverEventListener> additionalListeners = new ArrayList<IWebDriverEventListener>() {
-		private static final long serialVersionUID = 1L;
-		{
-			// it is filled by SPI
-			Iterator<?> providers = ServiceLoader.load(
-					IWebDriverEventListener.class).iterator();
-			while (providers.hasNext())
-				add((IWebDriverEventListener) providers.next());
-		}
-	};
-
-	private final IWebDriverEventListener proxyListener = (IWebDriverEventListener) Proxy
-			.newProxyInstance(IWebDriverEventListener.class.getClassLoader(),
-					new Class[] { IWebDriverEventListener.class }, (proxy,
-							method, args) -> {
-						additionalListeners.forEach((eventListener) -> {
-							try {
-								method.invoke(eventListener, args);
-							} catch (Exception e) {
-								throw new RuntimeException(e);
-							}
-
-						});
-						return null;
-					});
+	// class of an element -> the first listenable element of this class
+	private final Map<Class<?>, Advised> elementProxyTemplates = new ConcurrentHashMap<Class<?>, Advised>();
+	
+	// these methods don't change state of a mobile application
+	private static final Set<String> readOnlyMethods = new HashSet<String>(
+			Arrays.asList(
+					// WebDriver, AppiumDriver, AndroidDriver, IOSDriver
+					"getCurrentUrl", "getTitle", "getPageSource",
+					"getWindowHandle", "getWindowHandles", "getCapabilities",
+					"getSessionId", "getCommandExecutor", "getErrorHandler",
+					"getExecuteMethod", "getFileDetector", "getKeyboard",
+					"getMouse", "getRemoteAddress", "getRemoteStatus",
+					"getScreenshotAs", "getAppStrings", "getNamedTextField",
+					"getNetworkConnection", "getOrientation", "getSettings",
+					"isAppInstalled", "isLocked", "currentActivity",
+					"switchTo", "manage", "navigate",
+					// SearchContext
+					"findElement", "findElements",
+					"findElementByAccessibilityId", "findElementsByAccessibilityId",
+					"findElementByAndroidUIAutomator", "findElementsByAndroidUIAutomator",
+					"findElementByIosUIAutomation", "findElementsByIosUIAutomation",
+					"findElementByClassName", "findElementsByClassName",
+					"findElementByCssSelector", "findElementsByCssSelector",
+					"findElementById", "findElementsById",
+					"findElementByLinkText", "findElementsByLinkText",
+					"findElementByPartialLinkText", "findElementsByPartialLinkText",
+					"findElementByName", "findElementsByName",
+					"findElementByTagName", "findElementsByTagName",
+					"findElementByXPath", "findElementsByXPath",
+					// WebElement, MobileElement
+					"getAttribute", "getCssValue", "getTagName", "getText",
+					"getLocation", "getSize", "getCoordinates", "getCenter",
+					"getId", "getWrappedDriver", "isDisplayed", "isEnabled",
+					"isSelected",
+					// ContextAware
+					"getContext", "getContextHandles", "context",
+					// TargetLocator
+					"window", "frame", "defaultContent", "activeElement",
+					"alert",
+					// Options
+					"getCookies", "getCookieNamed", "logs", "timeouts", "ime",
+					// Object
+					"toString", "hashCode", "equals"));
+
+	// these methods may open or close a browser window
+	private static final Set<String> windowChangingMethods = new HashSet<String>(
+			Arrays.asList("click", "submit", "get", "to", "back", "forward",
+					"refresh", "executeScript", "executeAsyncScript"));
+
+	// it is resolved by the first command which may change something
+	private volatile Manager<?, ?> manager;
+	// scripts of the highlighter don't change state of the application
+	private final ThreadLocal<Boolean> isHighlighting = ThreadLocal
+			.withInitial(() -> false);
+
+	private final Listeners<IWebDriverEventListener> additionalListeners = ListenerRegistry
+			.getListeners(IWebDriverEventListener.class, configurationWrapper);
 
 	public AspectWebDriverEventListener(final WebDriver driver,
 			IConfigurationWrapper configurationWrapper,
@@ -139,6 +180,23 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		return null;
 	}
 
+	/**
+	 * @return <code>false</code> if the method which returns the given type
+	 *         can't return anything that should be listenable
+	 */
+	private static boolean mayBeListenable(Class<?> returnType) {
+		if (List.class.isAssignableFrom(returnType)) {
+			return true;
+		}
+		for (Class<?> c : listenable) {
+			if (c.isAssignableFrom(returnType)
+					|| returnType.isAssignableFrom(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T getListenable(Object object) {
 		Class<?> classForProxy = getClassForProxy(object.getClass());
@@ -172,7 +230,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeNavigateTo(String url, WebDriver driver) {
 		Log.message("Attempt to navigate to another url. Required url is "
 				+ url);
-		proxyListener.beforeNavigateTo(url, driver);
+		additionalListeners.fire((listener) -> listener.beforeNavigateTo(url, driver));
 	}
 
 	/**
@@ -182,7 +240,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterNavigateTo(String url, WebDriver driver) {
 		Log.message("Current URL is " + driver.getCurrentUrl());
-		proxyListener.afterNavigateTo(url, driver);
+		additionalListeners.fire((listener) -> listener.afterNavigateTo(url, driver));
 	}
 
 	/**
@@ -193,7 +251,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeNavigateBack(@SupportParam WebDriver driver) {
 		Log.message("Attempt to navigate to previous url. Current url is "
 				+ driver.getCurrentUrl());
-		proxyListener.beforeNavigateBack(driver);
+		additionalListeners.fire((listener) -> listener.beforeNavigateBack(driver));
 	}
 
 	/**
@@ -203,7 +261,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterNavigateBack(@SupportParam WebDriver driver) {
 		Log.message("Current URL is  " + driver.getCurrentUrl());
-		proxyListener.afterNavigateBack(driver);
+		additionalListeners.fire((listener) -> listener.afterNavigateBack(driver));
 
 	}
 
@@ -215,7 +273,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeNavigateForward(@SupportParam WebDriver driver) {
 		Log.message("Attempt to navigate to next url. Current url is "
 				+ driver.getCurrentUrl());
-		proxyListener.beforeNavigateForward(driver);
+		additionalListeners.fire((listener) -> listener.beforeNavigateForward(driver));
 	}
 
 	/**
@@ -225,7 +283,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterNavigateForward(@SupportParam WebDriver driver) {
 		Log.message("Current URL is  " + driver.getCurrentUrl());
-		proxyListener.afterNavigateForward(driver);
+		additionalListeners.fire((listener) -> listener.afterNavigateForward(driver));
 	}
 
 	/**
@@ -245,7 +303,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			highlightElementAndLogAction(element, "Using root element",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.beforeFindBy(by, element, driver);
+		additionalListeners.fire((listener) -> listener.beforeFindBy(by, element, driver));
 	}
 
 	/**
@@ -265,7 +323,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			highlightElementAndLogAction(element, "Root element was used",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.afterFindBy(by, element, driver);
+		additionalListeners.fire((listener) -> listener.afterFindBy(by, element, driver));
 	}
 
 	@BeforeTarget(targetClass = WebElement.class, targetMethod = "click")
@@ -275,7 +333,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		highlightElementAndLogAction(element,
 				"State before element will be clicked on.",
 				HowToHighLightElement.INFO);
-		proxyListener.beforeClickOn(element, driver);
+		additionalListeners.fire((listener) -> listener.beforeClickOn(element, driver));
 	}
 
 	/**
@@ -287,7 +345,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void afterClickOn(@TargetParam WebElement element,
 			@SupportParam WebDriver driver) {
 		Log.message("Click on element has been successfully performed!");
-		proxyListener.afterClickOn(element, driver);
+		additionalListeners.fire((listener) -> listener.afterClickOn(element, driver));
 	}
 
 	/**
@@ -303,7 +361,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		highlightElementAndLogAction(element,
 				"State before element value will be changed.",
 				HowToHighLightElement.INFO);
-		proxyListener.beforeChangeValueOf(element, driver);
+		additionalListeners.fire((listener) -> listener.beforeChangeValueOf(element, driver));
 	}
 
 	/**
@@ -320,7 +378,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		highlightElementAndLogAction(element,
 				"State after element value was changed.",
 				HowToHighLightElement.INFO);
-		proxyListener.afterChangeValueOf(element, driver);
+		additionalListeners.fire((listener) -> listener.afterChangeValueOf(element, driver));
 	}
 
 	/**
@@ -332,7 +390,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeScript(@UseParameter(number = 0) String script,
 			@SupportParam WebDriver driver) {
-		proxyListener.beforeScript(script, driver);
+		additionalListeners.fire((listener) -> listener.beforeScript(script, driver));
 	}
 
 	/**
@@ -344,7 +402,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterScript(@UseParameter(number = 0) String script,
 			@SupportParam WebDriver driver) {
-		proxyListener.afterScript(script, driver);
+		additionalListeners.fire((listener) -> listener.afterScript(script, driver));
 	}
 
 	/**
@@ -355,7 +413,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void onException(Throwable throwable, WebDriver driver) {
 		Log.debug("An exception has been caught out."
 				+ throwable.getClass().getName() + ":" + throwable.getMessage());
-		proxyListener.onException(throwable, driver);
+		additionalListeners.fire((listener) -> listener.onException(throwable, driver));
 	}
 
 	/**
@@ -367,7 +425,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void afterAlertAccept(@SupportParam WebDriver driver,
 			@TargetParam Alert alert) {
 		Log.message("Alert has been accepted");
-		proxyListener.afterAlertAccept(driver, alert);
+		additionalListeners.fire((listener) -> listener.afterAlertAccept(driver, alert));
 	}
 
 	/**
@@ -380,7 +438,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void afterAlertDismiss(@SupportParam WebDriver driver,
 			@TargetParam Alert alert) {
 		Log.message("Alert has been dismissed");
-		proxyListener.afterAlertDismiss(driver, alert);
+		additionalListeners.fire((listener) -> listener.afterAlertDismiss(driver, alert));
 	}
 
 	/**
@@ -392,7 +450,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void afterAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, @UseParameter(number = 0) String keys) {
 		Log.message("String " + keys + " has been sent to alert");
-		proxyListener.afterAlertSendKeys(driver, alert, keys);
+		additionalListeners.fire((listener) -> listener.afterAlertSendKeys(driver, alert, keys));
 	}
 
 	/**
@@ -404,7 +462,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void afterSubmit(@SupportParam WebDriver driver,
 			@TargetParam WebElement element) {
 		Log.message("Submit has been performed successfully");
-		proxyListener.afterSubmit(driver, element);
+		additionalListeners.fire((listener) -> listener.afterSubmit(driver, element));
 	}
 
 	/**
@@ -416,7 +474,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeAlertAccept(@SupportParam WebDriver driver,
 			@TargetParam Alert alert) {
 		Log.message("Attempt to accept alert...");
-		proxyListener.beforeAlertAccept(driver, alert);
+		additionalListeners.fire((listener) -> listener.beforeAlertAccept(driver, alert));
 	}
 
 	/**
@@ -428,7 +486,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeAlertDismiss(@SupportParam WebDriver driver,
 			@TargetParam Alert alert) {
 		Log.message("Attempt to dismiss the alert...");
-		proxyListener.beforeAlertDismiss(driver, alert);
+		additionalListeners.fire((listener) -> listener.beforeAlertDismiss(driver, alert));
 	}
 
 	/**
@@ -440,7 +498,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, String keys) {
 		Log.message("Attemt to send string " + keys + " to alert...");
-		proxyListener.beforeAlertSendKeys(driver, alert, keys);
+		additionalListeners.fire((listener) -> listener.beforeAlertSendKeys(driver, alert, keys));
 	}
 
 	/**
@@ -454,7 +512,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		highlightElementAndLogAction(element,
 				"State before submit will be performed by element: ",
 				HowToHighLightElement.INFO);
-		proxyListener.beforeSubmit(driver, element);
+		additionalListeners.fire((listener) -> listener.beforeSubmit(driver, element));
 	}
 
 	/**
@@ -482,7 +540,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			highlightElementAndLogAction(element, "Using root element",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.beforeFindBy(byString, element, driver);
+		additionalListeners.fire((listener) -> listener.beforeFindBy(byString, element, driver));
 	}
 
 	/**
@@ -510,7 +568,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			highlightElementAndLogAction(element, "Root element was used",
 					HowToHighLightElement.DEBUG);
 		}
-		proxyListener.afterFindBy(byString, element, driver);
+		additionalListeners.fire((listener) -> listener.afterFindBy(byString, element, driver));
 	}
 
 	private String addToDescription(WebElement element, String attribute,
@@ -547,10 +605,17 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	private void highlightElementAndLogAction(WebElement element,
 			String logMessage, HowToHighLightElement howToHighLightElement) {
 		String elementDescription = elementDescription(element);
-		highLighter.resetAccordingTo(configurationWrapper
-				.getWrappedConfiguration());
-		howToHighLightElement.highLight(highLighter, driver, element,
-				logMessage + elementDescription);
+		// it is reset by WebDriverEncapsulation when settings are changed
+		IWebElementHighlighter highLighter = ((WebDriverEncapsulation) configurationWrapper)
+				.getHighlighter();
+		boolean wasHighlighting = isHighlighting.get();
+		isHighlighting.set(true);
+		try {
+			howToHighLightElement.highLight(highLighter, driver, element,
+					logMessage + elementDescription);
+		} finally {
+			isHighlighting.set(wasHighlighting);
+		}
 	}
 
 	private Object transformToListenable(Object result) {
@@ -559,27 +624,48 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		}
 		Object o = getListenable(result);
 		if (o != null) { // ...so listenable object will be returned! ha-ha-ha
-			result = context.getBean(MainBeanConfiguration.COMPONENT_BEAN, o);
+			Phase previous = PhaseProfiler.enter(Phase.LISTENERS);
+			try {
+				result = context.getBean(MainBeanConfiguration.COMPONENT_BEAN, o);
+			} finally {
+				PhaseProfiler.exit(previous);
+			}
 		}
 		return result;
 	}
 
-	// List of WebElement
-	private List<Object> returnProxyList(List<Object> originalList) {
-		try {
-			List<Object> proxyList = new ArrayList<>();
-			for (Object o : originalList) {
-				if (getClassForProxy(o.getClass()) == null) {
-					proxyList.add(o);
-				}
-				proxyList.add(context.getBean(
-						MainBeanConfiguration.COMPONENT_BEAN, o));
+	/**
+	 * Makes an element of the found list listenable. Only the first element of
+	 * each class is created by {@link AbstractApplicationContext#getBean(String, Object...)}.
+	 * Its proxy class and advisors are reused by next elements.
+	 */
+	private Object toListenableElement(Object o) {
+		if (getClassForProxy(o.getClass()) == null) {
+			return o;
+		}
+		Advised template = elementProxyTemplates.get(o.getClass());
+		if (template == null) {
+			Object result = context.getBean(
+					MainBeanConfiguration.COMPONENT_BEAN, o);
+			if (result instanceof Advised) {
+				elementProxyTemplates.putIfAbsent(o.getClass(),
+						(Advised) result);
 			}
-			return proxyList;
-		} catch (Exception e) {
-			throw new RuntimeException(e);
+			return result;
 		}
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setProxyTargetClass(template.isProxyTargetClass());
+		proxyFactory.setExposeProxy(template.isExposeProxy());
+		proxyFactory.setPreFiltered(template.isPreFiltered());
+		proxyFactory.setInterfaces(template.getProxiedInterfaces());
+		proxyFactory.addAdvisors(template.getAdvisors());
+		proxyFactory.setTarget(o);
+		return proxyFactory.getProxy(template.getClass().getClassLoader());
+	}
 
+	// List of WebElement
+	private List<Object> returnProxyList(List<Object> originalList) {
+		return new ListenableList(originalList, this::toListenableElement);
 	}
 
 	/**
@@ -589,7 +675,10 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	@Around(POINTCUT_VALUE)
 	public Object doAround(ProceedingJoinPoint point) throws Throwable {
-		launchMethod(point, this, WhenLaunch.BEFORE);
+		boolean isListened = !IS_POINTCUT_NARROWED || isListened(point, this);
+		if (isListened) {
+			launchMethod(point, this, WhenLaunch.BEFORE);
+		}
 		Throwable t = null;
 		Object result = null;
 		try {
@@ -602,17 +691,107 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		if (t != null) {
 			throw getRootCause(t);
 		}
-		launchMethod(point, this, WhenLaunch.AFTER);
+		String methodName = point.getSignature().getName();
+		// e.g. getTagName(), getLocation(), isDisplayed()
+		if (!isListened
+				&& changesNothing(methodName, point.getArgs())
+				&& (result == null || !mayBeListenable(((MethodSignature) point
+						.getSignature()).getReturnType()))) {
+			return result;
+		}
+		if (isListened) {
+			launchMethod(point, this, WhenLaunch.AFTER);
+		}
+		afterCommand(methodName, point.getArgs());
 
 		if (result == null) { // maybe it was "void"
 			return result;
 		}
+		if (!isListened
+				&& !mayBeListenable(((MethodSignature) point.getSignature())
+						.getReturnType())) {
+			return result;
+		}
 		if (List.class.isAssignableFrom(result.getClass())) {
 			return returnProxyList((List<Object>) result);
 		}
 		return transformToListenable(result);
 	}
 
+	/**
+	 * The manager of this session. It is resolved once. It is 
+	 * <code>null</code> until it is created.
+	 */
+	private Manager<?, ?> getManager() {
+		Manager<?, ?> result = manager;
+		if (result == null
+				&& WebDriverEncapsulation.class
+						.isAssignableFrom(configurationWrapper.getClass())) {
+			result = Manager
+					.getInstanstiatedManager((WebDriverEncapsulation) configurationWrapper);
+			manager = result;
+		}
+		return result;
+	}
+
+	private static boolean isSwitch(String methodName, Object[] args) {
+		return ("context".equals(methodName) || "window".equals(methodName))
+				&& args.length == 1 && args[0] instanceof String;
+	}
+
+	// the command neither switches nor opens/closes windows nor invalidates
+	private static boolean changesNothing(String methodName, Object[] args) {
+		return !windowChangingMethods.contains(methodName)
+				&& readOnlyMethods.contains(methodName)
+				&& !isSwitch(methodName, args);
+	}
+
+	/**
+	 * The current context/page which are tracked by {@link ScreenManager} 
+	 * are changed if they are switched directly. Activities 
+	 * which are cached are not actual after navigation, clicks, 
+	 * taps and so on. The background window watcher polls fast after 
+	 * commands which may open or close a window.<br/>
+	 * Read-only commands and scripts of the highlighter change nothing.
+	 */
+	private void afterCommand(String methodName, Object[] args) {
+		if (changesNothing(methodName, args) || isHighlighting.get()) {
+			return;
+		}
+		boolean isWindowChanging = windowChangingMethods.contains(methodName);
+		Manager<?, ?> manager = getManager();
+		if (manager instanceof ScreenManager) {
+			updateContextCache(((ScreenManager) manager).getContextCache(),
+					methodName, args);
+		} else if (isWindowChanging && manager instanceof WindowManager) {
+			((WindowManager) manager).nudgeWatcher();
+		}
+	}
+
+	/**
+	 * Applies the invoked method to the given {@link ContextCache}. Methods 
+	 * which are not known as read-only (e.g. {@link WebDriver#get(String)}, 
+	 * {@link Navigation#to(String)}, clicks) invalidate activity snapshots.
+	 * Direct switches of the context or the window are recorded.
+	 */
+	static void updateContextCache(ContextCache contextCache,
+			String methodName, Object[] args) {
+		boolean hasStringParameter = args.length == 1
+				&& args[0] instanceof String;
+		if ("context".equals(methodName) && hasStringParameter) {
+			contextCache.contextIs((String) args[0]);
+			return;
+		}
+		if ("window".equals(methodName) && hasStringParameter) {
+			contextCache.pageIs((String) args[0]);
+			return;
+		}
+		if (readOnlyMethods.contains(methodName)) {
+			return;
+		}
+		contextCache.invalidate();
+	}
+
 	/**
 	 * @see com.github.arachnidium.core.eventlisteners.IWebDriverEventListener#beforeQuit(org.openqa.selenium.WebDriver)
 	 */
@@ -620,7 +799,9 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@BeforeTarget(targetClass = WebDriver.class, targetMethod = "quit")
 	public void beforeQuit(@SupportParam WebDriver driver) {
 		destroyable.destroy();
-		proxyListener.beforeQuit(driver);
+		additionalListeners.fire((listener) -> listener.beforeQuit(driver));
+		// asynchronous listeners receive everything before the session is over
+		ListenerEventQueue.forSession(configurationWrapper).barrier();
 	}
 
 }
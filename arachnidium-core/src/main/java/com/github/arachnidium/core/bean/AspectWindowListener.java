@@ -1,12 +1,5 @@
 package com.github.arachnidium.core.bean;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ServiceLoader;
-
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
 
@@ -21,6 +14,7 @@ import com.github.arachnidium.core.eventlisteners.IWindowListener;
 import com.github.arachnidium.core.interfaces.IExtendedWindow;
 import com.github.arachnidium.core.interfaces.IHasHandle;
 import com.github.arachnidium.core.interfaces.ITakesPictureOfItSelf;
+import com.github.arachnidium.core.interfaces.IWatchesHandles;
 import com.github.arachnidium.core.settings.ScreenShots;
 
 /**
@@ -31,31 +25,8 @@ import com.github.arachnidium.core.settings.ScreenShots;
 class AspectWindowListener extends DefaultHandleListener implements
 		IWindowListener {
 	
-	private final List<IWindowListener> windowEventListeners = new ArrayList<IWindowListener>(){
-		private static final long serialVersionUID = 1L;
-		{   //SPI
-			Iterator<?> providers = ServiceLoader.load(
-					IWindowListener.class).iterator();
-			while (providers.hasNext())
-				add((IWindowListener) providers.next());	
-		}		
-	};
-	private final InvocationHandler windowListenerInvocationHandler = (proxy,
-			method, args) -> {
-		windowEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			};
-		});
-		return null;
-	};
-
-	private final IWindowListener windowListenerProxy = (IWindowListener) Proxy
-			.newProxyInstance(IWindowListener.class.getClassLoader(),
-					new Class[] { IWindowListener.class },
-					windowListenerInvocationHandler);	
+	private final Listeners<IWindowListener> windowListeners = ListenerRegistry
+			.getListeners(IWindowListener.class, configurationWrapper);	
 	
 	public AspectWindowListener(IConfigurationWrapper configurationWrapper) {
 		super(configurationWrapper);
@@ -69,7 +40,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
 		Log.debug("Attempt to switch window on by handle " + handle.getHandle());
-		windowListenerProxy.beforeIsSwitchedOn(handle);
+		windowListeners.fire((listener) -> listener.beforeIsSwitchedOn(handle));
 	}
 
 	/**
@@ -81,7 +52,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	public void beforeWindowIsClosed(@TargetParam IExtendedWindow window) {
 		Log.message("Attempt to close window...");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsClosed(window);
+		windowListeners.fire((listener) -> listener.beforeWindowIsClosed(window));
 	}
 
 	/**
@@ -93,7 +64,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	public void beforeWindowIsMaximized(@TargetParam IExtendedWindow window) {
 		Log.message("Attempt to maximize window");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsMaximized(window);
+		windowListeners.fire((listener) -> listener.beforeWindowIsMaximized(window));
 	}
 
 	/**
@@ -108,7 +79,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsMoved(window, point);
+		windowListeners.fire((listener) -> listener.beforeWindowIsMoved(window, point));
 	}
 
 	/**
@@ -120,7 +91,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	public void beforeWindowIsRefreshed(@TargetParam IExtendedWindow window) {
 		Log.message("Attempt to refresh window");
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsRefreshed(window);
+		windowListeners.fire((listener) -> listener.beforeWindowIsRefreshed(window));
 	}
 
 	/**
@@ -136,7 +107,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
-		windowListenerProxy.beforeWindowIsResized(window, dimension);
+		windowListeners.fire((listener) -> listener.beforeWindowIsResized(window, dimension));
 	}
 
 	private void postWindowUrl(IExtendedWindow window) {
@@ -156,7 +127,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "switchToMe")
 	public void whenIsSwitchedOn(@TargetParam IHasHandle handle) {
 		postWindowUrl((IExtendedWindow) handle);
-		windowListenerProxy.whenIsSwitchedOn(handle);
+		windowListeners.fire((listener) -> listener.whenIsSwitchedOn(handle));
 	}
 
 	/**
@@ -173,9 +144,16 @@ class AspectWindowListener extends DefaultHandleListener implements
 		}
 		else {
 			Log.message("A new window/tab is here");
-			postWindowUrl((IExtendedWindow) handle); 
+			IExtendedWindow window = (IExtendedWindow) handle;
+			String knownUrl = window.getHandleMatch().getUrl();
+			if (knownUrl != null) {
+				// it has been read when the window was found
+				Log.message("URL is " + knownUrl);
+			} else {
+				postWindowUrl(window);
+			}
 		}
-		windowListenerProxy.whenNewHandleIsAppeared(handle);
+		windowListeners.fire((listener) -> listener.whenNewHandleIsAppeared(handle));
 	}
 
 	/**
@@ -186,7 +164,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "close")
 	public void whenWindowIsClosed(@TargetParam IExtendedWindow window) {
 		Log.message("Not any problem has occurred when window was closed...");
-		windowListenerProxy.whenWindowIsClosed(window);
+		windowListeners.fire((listener) -> listener.whenWindowIsClosed(window));
 	}
 
 	/**
@@ -197,7 +175,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "maximize")
 	public void whenWindowIsMaximized(@TargetParam IExtendedWindow window) {
 		Log.message("Window has been maximized");
-		windowListenerProxy.whenWindowIsMaximized(window);
+		windowListeners.fire((listener) -> listener.whenWindowIsMaximized(window));
 	}
 
 	/**
@@ -212,7 +190,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsMoved(window, point);
+		windowListeners.fire((listener) -> listener.whenWindowIsMoved(window, point));
 	}
 
 	/**
@@ -224,7 +202,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	public void whenWindowIsRefreshed(@TargetParam IExtendedWindow window) {
 		Log.message("Current window has been refreshed");
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsRefreshed(window);
+		windowListeners.fire((listener) -> listener.whenWindowIsRefreshed(window));
 	}
 
 	/**
@@ -239,7 +217,29 @@ class AspectWindowListener extends DefaultHandleListener implements
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
-		windowListenerProxy.whenWindowIsResized(window, dimension);
+		windowListeners.fire((listener) -> listener.whenWindowIsResized(window, dimension));
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.eventlisteners.IWindowListener#
+	 * whenWindowHandleIsAppeared(java.lang.String)
+	 */
+	@Override
+	@AfterTarget(targetClass = IWatchesHandles.class, targetMethod = "handleIsAppeared")
+	public void whenWindowHandleIsAppeared(@UseParameter(number = 0) String handle) {
+		Log.debug("A new window handle " + handle + " has been detected");
+		windowListeners.fire((listener) -> listener.whenWindowHandleIsAppeared(handle));
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.eventlisteners.IWindowListener#
+	 * whenWindowHandleIsDisappeared(java.lang.String)
+	 */
+	@Override
+	@AfterTarget(targetClass = IWatchesHandles.class, targetMethod = "handleIsDisappeared")
+	public void whenWindowHandleIsDisappeared(@UseParameter(number = 0) String handle) {
+		Log.debug("Window handle " + handle + " is not present anymore");
+		windowListeners.fire((listener) -> listener.whenWindowHandleIsDisappeared(handle));
 	}
 
 	/**
@@ -249,8 +249,16 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Around("execution(* com.github.arachnidium.core.interfaces.IExtendedWindow.*(..)) || "
 			+ "execution(* com.github.arachnidium.core.interfaces.IHasHandle.*(..)) || "
 			+ "execution(* com.github.arachnidium.core.interfaces.ISwitchesToItself.*(..)) || " +
-			"execution(* org.openqa.selenium.WebDriver.Window.*(..))")
+			"execution(* org.openqa.selenium.WebDriver.Window.*(..)) || " +
+			"execution(* com.github.arachnidium.core.interfaces.IWatchesHandles.*(..))")
 	public Object doAround(ProceedingJoinPoint point) throws Throwable {
+		if (IS_POINTCUT_NARROWED && !isListened(point, this)) {
+			try {
+				return point.proceed();
+			} catch (Exception e) {
+				throw getRootCause(e);
+			}
+		}
 		launchMethod(point, this, WhenLaunch.BEFORE);
 		Object result = null;
 		try {
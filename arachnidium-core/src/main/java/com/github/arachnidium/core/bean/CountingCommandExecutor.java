@@ -0,0 +1,115 @@
+package com.github.arachnidium.core.bean;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import com.github.arachnidium.core.CommandStatistics;
+import com.github.arachnidium.core.profiling.TraceTrack;
+import com.github.arachnidium.core.replay.SessionRecorder;
+
+/**
+ * Sends commands by the original {@link CommandExecutor} and records them
+ * by {@link CommandStatistics}, {@link TraceTrack} and
+ * {@link SessionRecorder}. A command is failed when it throws an exception
+ * or its response has an error status.<br/>
+ * <br/>
+ * Some drivers (e.g. FirefoxDriver, SafariDriver) cast their executors to
+ * inner classes when they are stopped. So the original executor is put back
+ * when the session quits.
+ */
+class CountingCommandExecutor implements CommandExecutor {
+	private static final Method SET_COMMAND_EXECUTOR;
+
+	static {
+		try {
+			SET_COMMAND_EXECUTOR = RemoteWebDriver.class.getDeclaredMethod(
+					"setCommandExecutor", CommandExecutor.class);
+			SET_COMMAND_EXECUTOR.setAccessible(true);
+		} catch (NoSuchMethodException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private final CommandExecutor executor;
+	private final CommandStatistics statistics;
+	private final TraceTrack trace;
+	private final SessionRecorder recorder;
+	private RemoteWebDriver driver;
+
+	CountingCommandExecutor(CommandExecutor executor,
+			CommandStatistics statistics, TraceTrack trace,
+			SessionRecorder recorder) {
+		this.executor = executor;
+		this.statistics = statistics;
+		this.trace = trace;
+		this.recorder = recorder;
+	}
+
+	private static void setCommandExecutor(RemoteWebDriver driver,
+			CommandExecutor executor) {
+		try {
+			SET_COMMAND_EXECUTOR.invoke(driver, executor);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Makes the driver send commands by an instance of
+	 * {@link CountingCommandExecutor}. If it already does that nothing is
+	 * changed. If the session has been started before that it is recorded
+	 * by the {@link SessionRecorder}
+	 */
+	static void instrument(RemoteWebDriver driver,
+			CommandStatistics statistics, TraceTrack trace,
+			SessionRecorder recorder) {
+		CommandExecutor current = driver.getCommandExecutor();
+		CountingCommandExecutor counting;
+		if (current instanceof CountingCommandExecutor) {
+			counting = (CountingCommandExecutor) current;
+		} else {
+			counting = new CountingCommandExecutor(current, statistics,
+					trace, recorder);
+			setCommandExecutor(driver, counting);
+		}
+		counting.driver = driver;
+		recorder.recordSession(driver.getSessionId(), driver.getCapabilities());
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		String name = command.getName();
+		if (DriverCommand.QUIT.equals(name) && driver != null) {
+			setCommandExecutor(driver, executor);
+		}
+		boolean failed = true;
+		Response response = null;
+		Exception thrown = null;
+		long startedAt = trace.begin();
+		long started = System.nanoTime();
+		try {
+			response = executor.execute(command);
+			failed = response.getStatus() != ErrorCodes.SUCCESS;
+			return response;
+		} catch (IOException | RuntimeException e) {
+			thrown = e;
+			throw e;
+		} finally {
+			long latency = System.nanoTime() - started;
+			statistics.record(name, latency, failed);
+			trace.end(startedAt, "command", name, failed ? "failed" : null);
+			recorder.record(command, response, thrown, latency);
+			if (DriverCommand.QUIT.equals(name)) {
+				recorder.close();
+			}
+		}
+	}
+}
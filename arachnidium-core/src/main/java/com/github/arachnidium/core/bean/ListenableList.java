@@ -0,0 +1,76 @@
+package com.github.arachnidium.core.bean;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+/**
+ * This list is returned instead of lists of found elements. Elements are made
+ * listenable only when they are got from the list for the first time. So big
+ * lists (e.g. rows of a table) are cheap if only a few elements are used.<br/>
+ * <br/>
+ * Elements which are added or set by the user are kept as they are.
+ */
+final class ListenableList extends AbstractList<Object> implements
+		RandomAccess {
+	private final List<Object> originals;
+	private final List<Object> listenables;
+	private final UnaryOperator<Object> toListenable;
+
+	/**
+	 * @param originals is the list which was returned by the target method
+	 * @param toListenable makes an element listenable
+	 */
+	ListenableList(List<Object> originals, UnaryOperator<Object> toListenable) {
+		this.originals = new ArrayList<Object>(originals);
+		this.listenables = new ArrayList<Object>(Arrays.asList(new Object[originals
+				.size()]));
+		this.toListenable = toListenable;
+	}
+
+	@Override
+	public Object get(int index) {
+		Object result = listenables.get(index);
+		if (result == null) {
+			Object original = originals.get(index);
+			if (original == null) {
+				return null;
+			}
+			result = toListenable.apply(original);
+			listenables.set(index, result);
+		}
+		return result;
+	}
+
+	@Override
+	public int size() {
+		return originals.size();
+	}
+
+	@Override
+	public Object set(int index, Object element) {
+		Object previous = get(index);
+		originals.set(index, element);
+		listenables.set(index, element);
+		return previous;
+	}
+
+	@Override
+	public void add(int index, Object element) {
+		originals.add(index, element);
+		listenables.add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public Object remove(int index) {
+		Object previous = get(index);
+		originals.remove(index);
+		listenables.remove(index);
+		modCount++;
+		return previous;
+	}
+}
@@ -0,0 +1,171 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.arachnidium.core.interfaces.IHasHandle;
+
+/**
+ * An event which is waiting for its
+ * {@link com.github.arachnidium.core.eventlisteners.AsyncListener} in
+ * {@link ListenerEventQueue}.<br/>
+ * <br/>
+ * It is the immutable snapshot which is taken when the event is fired: the
+ * method of the listener, parameters, the time and the thread. Parameters
+ * which are live session objects ({@link WebDriver}, {@link WebElement},
+ * {@link Alert}, {@link IHasHandle}) are replaced by their descriptions. So
+ * the listener never sends commands to the session which may be already
+ * used by another command.
+ */
+final class ListenerEvent<T> {
+	private final T listener;
+	private final Method method;
+	private final Object[] args;
+	private final long firedAt;
+	private final String thread;
+
+	ListenerEvent(T listener, Method method, Object[] args) {
+		this(listener, method, args, System.currentTimeMillis(), Thread
+				.currentThread().getName());
+	}
+
+	private ListenerEvent(T listener, Method method, Object[] args,
+			long firedAt, String thread) {
+		this.listener = listener;
+		this.method = method;
+		this.args = args;
+		this.firedAt = firedAt;
+		this.thread = thread;
+	}
+
+	/**
+	 * @param listenerInterface is the interface of listeners
+	 * @param event is the event which is fired
+	 * @return the snapshot of the event without a listener. It is
+	 *         <code>null</code> if no method has been invoked
+	 */
+	static <T> ListenerEvent<T> snapshot(Class<T> listenerInterface,
+			Consumer<? super T> event) {
+		Object[] recorded = new Object[2];
+		T recorder = listenerInterface.cast(Proxy.newProxyInstance(
+				listenerInterface.getClassLoader(),
+				new Class<?>[] { listenerInterface }, (proxy, method, args) -> {
+					recorded[0] = method;
+					recorded[1] = args;
+					return null;
+				}));
+		event.accept(recorder);
+		Method method = (Method) recorded[0];
+		if (method == null) {
+			return null;
+		}
+		Object[] args = (Object[]) recorded[1];
+		if (args == null) {
+			args = new Object[] {};
+		}
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		Object[] frozen = new Object[args.length];
+		for (int i = 0; i < args.length; i++) {
+			frozen[i] = freeze(parameterTypes[i], args[i]);
+		}
+		return new ListenerEvent<T>(null, method, frozen);
+	}
+
+	private static Object freeze(Class<?> parameterType, Object arg) {
+		if (arg == null || !parameterType.isInterface()) {
+			return arg;
+		}
+		String handle = null;
+		String description;
+		if (arg instanceof IHasHandle) {
+			handle = ((IHasHandle) arg).getHandle();
+			description = parameterType.getSimpleName() + " " + handle;
+		} else if (arg instanceof WebDriver || arg instanceof WebElement
+				|| arg instanceof Alert) {
+			description = String.valueOf(arg);
+		} else {
+			return arg;
+		}
+		return Proxy.newProxyInstance(parameterType.getClassLoader(),
+				new Class<?>[] { parameterType }, new Frozen(description,
+						handle));
+	}
+
+	/**
+	 * The description of a live object which has been taken when the event
+	 * was fired
+	 */
+	private static class Frozen implements InvocationHandler {
+		private final String description;
+		private final String handle;
+
+		private Frozen(String description, String handle) {
+			this.description = description;
+			this.handle = handle;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			switch (method.getName()) {
+			case "toString":
+				return description;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "getHandle":
+				if (handle != null) {
+					return handle;
+				}
+			default:
+				throw new UnsupportedOperationException(description
+						+ " has been taken when the event was fired. "
+						+ "Asynchronous listeners can't invoke "
+						+ method.getName() + "()");
+			}
+		}
+	}
+
+	/**
+	 * @param listener is the asynchronous listener
+	 * @return the same snapshot for the given listener
+	 */
+	ListenerEvent<T> to(T listener) {
+		return new ListenerEvent<T>(listener, method, args, firedAt, thread);
+	}
+
+	void deliver() {
+		try {
+			method.invoke(listener, args);
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	T getListener() {
+		return listener;
+	}
+
+	@Override
+	public String toString() {
+		return method.getName() + " (fired at " + firedAt + " by " + thread
+				+ ")";
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * The queue of events of a session which are received by
+ * {@link com.github.arachnidium.core.eventlisteners.AsyncListener} marked
+ * listeners. Events are delivered one by one by the daemon thread. It is
+ * started when the first event is posted.<br/>
+ * <br/>
+ * {@link #barrier()} waits for delivery of all posted events and stops the
+ * thread. Events which are posted after that are delivered synchronously.
+ */
+final class ListenerEventQueue {
+	private static final String THREAD_NAME = "arachnidium-listeners-";
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final Map<Object, ListenerEventQueue> queues = Collections
+			.synchronizedMap(new WeakHashMap<Object, ListenerEventQueue>());
+
+	private static final Method COUNT_DOWN;
+	static {
+		try {
+			COUNT_DOWN = CountDownLatch.class.getMethod("countDown");
+		} catch (NoSuchMethodException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private final BlockingQueue<ListenerEvent<?>> events = new LinkedBlockingQueue<ListenerEvent<?>>();
+	private Thread thread;
+	private boolean isClosed;
+
+	/**
+	 * @param session is something which identifies the session. It is the
+	 *            {@link com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper}
+	 *            shared by aspects of the session
+	 * @return the queue of the session
+	 */
+	static ListenerEventQueue forSession(Object session) {
+		synchronized (queues) {
+			ListenerEventQueue result = queues.get(session);
+			if (result == null) {
+				result = new ListenerEventQueue();
+				queues.put(session, result);
+			}
+			return result;
+		}
+	}
+
+	private ListenerEventQueue() {
+		super();
+	}
+
+	private static void deliver(ListenerEvent<?> event) {
+		try {
+			event.deliver();
+		} catch (RuntimeException | Error e) {
+			Log.warning("Asynchronous listener "
+					+ event.getListener().getClass().getName()
+					+ " has failed. Event: " + event, e);
+		}
+	}
+
+	private void consume() {
+		while (true) {
+			ListenerEvent<?> event;
+			try {
+				event = events.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+			deliver(event);
+		}
+	}
+
+	/**
+	 * Puts the event to the queue
+	 */
+	void post(ListenerEvent<?> event) {
+		synchronized (this) {
+			if (!isClosed) {
+				if (thread == null) {
+					thread = new Thread(this::consume, THREAD_NAME
+							+ threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					thread.start();
+				}
+				events.add(event);
+				return;
+			}
+		}
+		deliver(event);
+	}
+
+	/**
+	 * Waits until all posted events are delivered and stops the thread.
+	 */
+	void barrier() {
+		Thread consumer;
+		CountDownLatch latch = new CountDownLatch(1);
+		synchronized (this) {
+			if (isClosed) {
+				return;
+			}
+			isClosed = true;
+			consumer = thread;
+			if (consumer == null) {
+				return;
+			}
+			events.add(new ListenerEvent<CountDownLatch>(latch, COUNT_DOWN,
+					new Object[] {}));
+		}
+		try {
+			// the thread may die if something is wrong with logging
+			while (!latch.await(1, TimeUnit.SECONDS) && consumer.isAlive()) {
+				continue;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			consumer.interrupt();
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.arachnidium.core.eventlisteners.SharedListener;
+
+/**
+ * JVM-wide cache of listeners which are defined by SPI. <code>META-INF/services</code> 
+ * are scanned only once per listener interface and class loader.<br/>
+ * <br/>
+ * Each session gets new instances of listeners. Listeners which are marked by
+ * {@link SharedListener} are instantiated only once and they are shared by all
+ * sessions.
+ */
+final class ListenerRegistry {
+
+	/**
+	 * What has been found by {@link ServiceLoader}
+	 */
+	private static final class Discovered {
+		// a shared instance or null if each session needs its own one
+		private final List<Object> sharedInstances = new ArrayList<Object>();
+		private final List<Class<?>> listenerClasses = new ArrayList<Class<?>>();
+	}
+
+	private static final Map<ClassLoader, Map<Class<?>, Discovered>> DISCOVERED = Collections
+			.synchronizedMap(new WeakHashMap<ClassLoader, Map<Class<?>, Discovered>>());
+
+	private ListenerRegistry() {
+		super();
+	}
+
+	private static Discovered discover(Class<?> listenerInterface,
+			ClassLoader loader) {
+		Discovered result = new Discovered();
+		Iterator<?> providers = ServiceLoader.load(listenerInterface, loader)
+				.iterator();
+		while (providers.hasNext()) {
+			Object listener = providers.next();
+			result.listenerClasses.add(listener.getClass());
+			if (listener.getClass().isAnnotationPresent(SharedListener.class)) {
+				result.sharedInstances.add(listener);
+			} else {
+				result.sharedInstances.add(null);
+			}
+		}
+		return result;
+	}
+
+	private static Object newInstance(Class<?> listenerClass) {
+		try {
+			return listenerClass.getDeclaredConstructor().newInstance();
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} catch (InstantiationException | IllegalAccessException
+				| NoSuchMethodException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * @param listenerInterface is the interface of listeners
+	 * @param session is something which identifies the session (see
+	 *            {@link ListenerEventQueue#forSession(Object)})
+	 * @return {@link Listeners} of a new session
+	 */
+	static <T> Listeners<T> getListeners(Class<T> listenerInterface,
+			Object session) {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = listenerInterface.getClassLoader();
+		}
+		Map<Class<?>, Discovered> byInterface;
+		synchronized (DISCOVERED) {
+			byInterface = DISCOVERED.get(loader);
+			if (byInterface == null) {
+				byInterface = new ConcurrentHashMap<Class<?>, Discovered>();
+				DISCOVERED.put(loader, byInterface);
+			}
+		}
+		final ClassLoader usedLoader = loader;
+		Discovered discovered = byInterface.computeIfAbsent(listenerInterface,
+				(i) -> discover(i, usedLoader));
+
+		List<T> result = new ArrayList<T>();
+		for (int i = 0; i < discovered.listenerClasses.size(); i++) {
+			Object shared = discovered.sharedInstances.get(i);
+			result.add(listenerInterface.cast(shared != null ? shared
+					: newInstance(discovered.listenerClasses.get(i))));
+		}
+		return new Listeners<T>(listenerInterface, result,
+				ListenerEventQueue.forSession(session));
+	}
+}
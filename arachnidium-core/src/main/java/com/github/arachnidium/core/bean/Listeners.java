@@ -0,0 +1,75 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.github.arachnidium.core.eventlisteners.AsyncListener;
+
+/**
+ * Listeners of a session. Events are passed to them in the 
+ * order they have been found by SPI. It is just a loop over 
+ * the precomputed array. There is no reflection here.<br/>
+ * <br/>
+ * Events are posted to {@link ListenerEventQueue} of the session 
+ * when listeners are marked by {@link AsyncListener}. The event is
+ * recorded once as {@link ListenerEvent} snapshot which is shared by
+ * all of them
+ */
+final class Listeners<T> {
+	private final T[] listeners;
+	private final T[] asyncListeners;
+	private final ListenerEventQueue queue;
+	private final Class<T> listenerInterface;
+
+	Listeners(Class<T> listenerInterface, List<T> listeners,
+			ListenerEventQueue queue) {
+		List<T> sync = new ArrayList<T>();
+		List<T> async = new ArrayList<T>();
+		for (T listener : listeners) {
+			if (listener.getClass().isAnnotationPresent(AsyncListener.class)) {
+				async.add(listener);
+			} else {
+				sync.add(listener);
+			}
+		}
+		this.listeners = toArray(listenerInterface, sync);
+		this.asyncListeners = toArray(listenerInterface, async);
+		this.queue = queue;
+		this.listenerInterface = listenerInterface;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] toArray(Class<T> listenerInterface, List<T> list) {
+		return list.toArray((T[]) Array.newInstance(listenerInterface,
+				list.size()));
+	}
+
+	/**
+	 * @param event is invoked for each listener
+	 */
+	void fire(Consumer<? super T> event) {
+		for (T listener : listeners) {
+			event.accept(listener);
+		}
+		if (asyncListeners.length == 0) {
+			return;
+		}
+		ListenerEvent<T> snapshot = ListenerEvent.snapshot(listenerInterface,
+				event);
+		if (snapshot == null) {
+			return;
+		}
+		for (T listener : asyncListeners) {
+			queue.post(snapshot.to(listener));
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if there are no listeners
+	 */
+	boolean isEmpty() {
+		return listeners.length == 0 && asyncListeners.length == 0;
+	}
+}
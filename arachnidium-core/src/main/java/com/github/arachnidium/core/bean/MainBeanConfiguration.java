@@ -15,6 +15,8 @@ import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
 import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -23,9 +25,13 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.support.AbstractApplicationContext;
 
+import com.github.arachnidium.core.CommandStatistics;
 import com.github.arachnidium.core.interfaces.IContext;
 import com.github.arachnidium.core.interfaces.IDestroyable;
 import com.github.arachnidium.core.interfaces.IExtendedWindow;
+import com.github.arachnidium.core.interfaces.IWatchesHandles;
+import com.github.arachnidium.core.profiling.TraceTrack;
+import com.github.arachnidium.core.replay.SessionRecorder;
 
 
 /**
@@ -44,6 +50,7 @@ public class MainBeanConfiguration {
 	public final static String WEBDRIVER_BEAN = "webdriver";
 	public final static String WINDOW_BEAN    = "window";
 	public final static String MOBILE_CONTEXT_BEAN    = "mobile_context";
+	public final static String WINDOW_EVENTS_BEAN     = "window_events";
 	
 	/**
 	 * Creates {@link WebDriver} instance and makes it listenable.
@@ -56,6 +63,14 @@ public class MainBeanConfiguration {
 	 * @param required Class of {@link WebDriver} implementor
 	 * @param paramClasses  Are constructor parameters
 	 * @param paramValues Are constructor parameter values
+	 * @param statistics records remote commands of the created
+	 * {@link RemoteWebDriver}. If one of the parameter values is a 
+	 * {@link CommandExecutor} then it is instrumented before the driver
+	 * is created. So the new session command is recorded too.
+	 * @param trace is the {@link TraceTrack} which remote commands are 
+	 * written to
+	 * @param recorder is the {@link SessionRecorder} which records remote 
+	 * commands and responses
 	 * 
 	 * @return A listenable {@link WebDriver} instance
 	 */
@@ -66,10 +81,24 @@ public class MainBeanConfiguration {
 			IConfigurationWrapper configurationWrapper,
 			IDestroyable destroyable,
 			Class<T> required,
-			Class<?>[] paramClasses, Object[] paramValues) {
+			Class<?>[] paramClasses, Object[] paramValues,
+			CommandStatistics statistics, TraceTrack trace,
+			SessionRecorder recorder) {
 		try {
 			Constructor<?> c = required.getConstructor(paramClasses);
-			T result = (T) c.newInstance(paramValues);
+			Object[] values = paramValues.clone();
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] instanceof CommandExecutor) {
+					values[i] = new CountingCommandExecutor(
+							(CommandExecutor) values[i], statistics, trace,
+							recorder);
+				}
+			}
+			T result = (T) c.newInstance(values);
+			if (result instanceof RemoteWebDriver) {
+				CountingCommandExecutor.instrument((RemoteWebDriver) result,
+						statistics, trace, recorder);
+			}
 			return (T) populate(context, configurationWrapper, destroyable, result);
 		} catch (NoSuchMethodException | SecurityException
 				| InstantiationException | IllegalAccessException
@@ -117,6 +146,20 @@ public class MainBeanConfiguration {
 		return (T) context;
 	}		
 	
+	/**
+	 * Makes an instance of {@link IWatchesHandles} listenable
+	 * @param events An original instance of {@link IWatchesHandles}
+	 * @return The listenable instance of {@link IWatchesHandles}
+	 * 
+	 * @see Bean
+	 */	
+	@SuppressWarnings("unchecked")
+	@Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+	@Bean(name = WINDOW_EVENTS_BEAN)
+	public <T extends IWatchesHandles> T getWindowEvents(IWatchesHandles events) {
+		return (T) events;
+	}
+	
 	/**
 	 * It return listenable {@link WebDriver} components
 	 * 
@@ -1,22 +1,105 @@
 package com.github.arachnidium.core.components;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.sf.cglib.proxy.MethodProxy;
 
 import com.github.arachnidium.util.proxy.DefaultInterceptor;
 
+/**
+ * Invokes methods of {@link WebdriverComponent#delegate}.<br/>
+ * <br/>
+ * Methods of delegates are resolved only once per (delegate class, method)
+ * pair. They are invoked by cached {@link MethodHandle}s instead of
+ * {@link Class#getMethod(String, Class...)} and {@link Method#invoke(Object, Object...)}
+ * on each call. Exceptions thrown by delegates are not wrapped.
+ */
 class ComponentInterceptor extends DefaultInterceptor {
+	private static final MethodType GENERIC_TYPE = MethodType.methodType(
+			Object.class, Object.class, Object[].class);
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ClassValue<Map<Method, MethodHandle>> HANDLES = new ClassValue<Map<Method, MethodHandle>>() {
+		@Override
+		protected Map<Method, MethodHandle> computeValue(Class<?> delegateClass) {
+			return new ConcurrentHashMap<Method, MethodHandle>();
+		}
+	};
+
+	/**
+	 * Looks for the method which can be invoked from here. If the class of the
+	 * delegate is not public (e.g. it is some inner class of the
+	 * {@link org.openqa.selenium.WebDriver} implementor) then the same method
+	 * is taken from its public interfaces or superclasses.
+	 */
+	private static Method getAccessibleMethod(Class<?> delegateClass,
+			Method method) throws NoSuchMethodException {
+		Method realMethod = delegateClass.getMethod(method.getName(),
+				method.getParameterTypes());
+		if (Modifier.isPublic(realMethod.getDeclaringClass().getModifiers())) {
+			return realMethod;
+		}
+		for (Class<?> c = delegateClass; c != null; c = c.getSuperclass()) {
+			if (Modifier.isPublic(c.getModifiers()) && c != delegateClass) {
+				try {
+					return c.getMethod(method.getName(),
+							method.getParameterTypes());
+				} catch (NoSuchMethodException e) {
+					// it will be looked for further
+				}
+			}
+			for (Class<?> i : c.getInterfaces()) {
+				if (!Modifier.isPublic(i.getModifiers())) {
+					continue;
+				}
+				try {
+					return i.getMethod(method.getName(),
+							method.getParameterTypes());
+				} catch (NoSuchMethodException e) {
+					// it will be looked for further
+				}
+			}
+		}
+		realMethod.setAccessible(true);
+		return realMethod;
+	}
+
+	private static MethodHandle resolve(Class<?> delegateClass, Method method) {
+		try {
+			Method realMethod = getAccessibleMethod(delegateClass, method);
+			return LOOKUP.unreflect(realMethod).asFixedArity()
+					.asSpreader(Object[].class, realMethod.getParameterCount())
+					.asType(GENERIC_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static MethodHandle getHandle(Class<?> delegateClass, Method method) {
+		Map<Method, MethodHandle> handles = HANDLES.get(delegateClass);
+		MethodHandle handle = handles.get(method);
+		if (handle == null) {
+			handle = resolve(delegateClass, method);
+			handles.putIfAbsent(method, handle);
+		}
+		return handle;
+	}
+
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
 		Object realObject = ((WebdriverComponent) obj).delegate;
-		Method realMethod = realObject.getClass().getMethod(method.getName(),
-				method.getParameterTypes());
 		if (obj.getClass().equals(realObject.getClass())) {
 			return super.intercept(realObject, method, args, proxy);
 		} else {
-			return realMethod.invoke(realObject, args);
+			return (Object) getHandle(realObject.getClass(), method)
+					.invokeExact(realObject, args);
 		}
 	}
 
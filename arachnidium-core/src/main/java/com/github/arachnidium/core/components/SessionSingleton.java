@@ -0,0 +1,21 @@
+package com.github.arachnidium.core.components;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Components are created by each call of 
+ * {@link com.github.arachnidium.core.WebDriverEncapsulation#getComponent(Class)} 
+ * by default.<br/>
+ * <br/>
+ * If the class of a component is marked by this annotation then only one 
+ * instance of it is created per session. It is created by the first call 
+ * and then it is shared. So such component should have no state 
+ * except the wrapped {@link org.openqa.selenium.WebDriver}.
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface SessionSingleton {
+}
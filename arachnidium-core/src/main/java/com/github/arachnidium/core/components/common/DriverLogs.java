@@ -3,12 +3,14 @@ package com.github.arachnidium.core.components.common;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.logging.Logs;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link Logs} implementor
  *
  */
+@SessionSingleton
 public abstract class DriverLogs extends WebdriverComponent
 		implements Logs {
 
@@ -5,6 +5,7 @@ import java.util.List;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.ImeHandler;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
@@ -12,6 +13,7 @@ import com.github.arachnidium.core.components.WebdriverComponent;
  * {@link IME} implementor
  *
  */
+@SessionSingleton
 public abstract class Ime extends WebdriverComponent implements ImeHandler {
 
 	public Ime(WebDriver driver) {
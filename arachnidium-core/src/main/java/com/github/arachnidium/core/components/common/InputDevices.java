@@ -4,11 +4,13 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.HasInputDevices;
 import org.openqa.selenium.interactions.HasTouchScreen;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * Implements {@link HasInputDevices} and {@link HasTouchScreen }
  */
+@SessionSingleton
 public abstract class InputDevices extends WebdriverComponent
 		implements HasInputDevices{
 
@@ -3,11 +3,13 @@ package com.github.arachnidium.core.components.common;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link Navigation} implementor
  */
+@SessionSingleton
 public abstract class NavigationTool extends WebdriverComponent
 		implements Navigation {
 
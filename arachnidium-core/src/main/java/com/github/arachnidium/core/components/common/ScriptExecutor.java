@@ -3,11 +3,13 @@ package com.github.arachnidium.core.components.common;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link JavascriptExecutor} implementor
  */
+@SessionSingleton
 public abstract class ScriptExecutor extends WebdriverComponent
 		implements JavascriptExecutor {
 
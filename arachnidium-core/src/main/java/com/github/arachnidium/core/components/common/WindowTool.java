@@ -3,11 +3,13 @@ package com.github.arachnidium.core.components.common;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Window;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link Window} implementor
  */
+@SessionSingleton
 public abstract class WindowTool extends WebdriverComponent
 		implements Window {
 
@@ -6,12 +6,14 @@ import io.appium.java_client.TouchAction;
 
 import org.openqa.selenium.WebDriver;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * Performs {@link TouchAction} and {@link MultiTouchAction}
  *
  */
+@SessionSingleton
 public abstract class NativeTouchActions extends WebdriverComponent
 		implements PerformsTouchActions {
 	public NativeTouchActions(WebDriver driver) {
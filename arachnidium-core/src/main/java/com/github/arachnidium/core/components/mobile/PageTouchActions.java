@@ -6,12 +6,14 @@ import org.openqa.selenium.remote.RemoteExecuteMethod;
 import org.openqa.selenium.remote.RemoteTouchScreen;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import com.github.arachnidium.core.components.SessionSingleton;
 import com.github.arachnidium.core.components.WebdriverComponent;
 
 /**
  * {@link TouchScreen} default implementor
  *
  */
+@SessionSingleton
 public abstract class PageTouchActions extends WebdriverComponent implements
 		TouchScreen {
 	public PageTouchActions(WebDriver driver) {
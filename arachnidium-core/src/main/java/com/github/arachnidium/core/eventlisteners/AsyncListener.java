@@ -0,0 +1,37 @@
+package com.github.arachnidium.core.eventlisteners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Listeners are invoked on the thread which works with {@link org.openqa.selenium.WebDriver}
+ * by default. So slow listeners (e.g. they write reports) make each command slower.<br/>
+ * <br/>
+ * If the class of a listener is marked by this annotation then events are
+ * passed to it through the queue of the session. They are consumed by a
+ * separate thread.<br/>
+ * <br/>
+ * Ordering:<br/>
+ * - each session has its own queue and thread;<br/>
+ * - events of a session are received by asynchronous listeners in the same
+ * order in which they were fired. One event is received at a time;<br/>
+ * - there is no ordering between synchronous and asynchronous listeners;<br/>
+ * - all queued events are received before {@link org.openqa.selenium.WebDriver#quit()}
+ * is performed. Events which are fired after that are received synchronously.<br/>
+ * <br/>
+ * Events are snapshots which are taken when they are fired. Parameters which
+ * are live objects of the session ({@link org.openqa.selenium.WebDriver},
+ * {@link org.openqa.selenium.WebElement}, {@link org.openqa.selenium.Alert},
+ * windows and contexts) are replaced by their descriptions which are taken at
+ * that time. <code>toString()</code> (and <code>getHandle()</code> of windows
+ * and contexts) can be used only. Other methods throw
+ * {@link UnsupportedOperationException} because the session may be already
+ * used by another command. Other parameters are passed as is.
+ * Exceptions which are thrown by asynchronous listeners are logged.
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface AsyncListener {
+}
@@ -81,4 +81,25 @@ public interface IWindowListener extends IHandletListener {
 	 * @param dimension Current window size
 	 */	
 	public void whenWindowIsResized(IExtendedWindow window, Dimension dimension);
+
+	/**
+	 * It will be invoked when a new browser window handle is detected
+	 * by the background watcher. It is invoked on the watcher thread.
+	 * 
+	 * @param handle The new string window handle
+	 */
+	default void whenWindowHandleIsAppeared(String handle) {
+		// does nothing by default
+	}
+
+	/**
+	 * It will be invoked when the background watcher detects that
+	 * a browser window handle is not present anymore. It is invoked 
+	 * on the watcher thread.
+	 * 
+	 * @param handle The string window handle which has disappeared
+	 */
+	default void whenWindowHandleIsDisappeared(String handle) {
+		// does nothing by default
+	}
 }
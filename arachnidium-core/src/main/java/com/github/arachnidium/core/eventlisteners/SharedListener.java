@@ -0,0 +1,19 @@
+package com.github.arachnidium.core.eventlisteners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Listeners are defined by SPI (see {@link java.util.ServiceLoader}). 
+ * Each session gets its own instances of them by default.<br/>
+ * <br/>
+ * If the class of a listener is marked by this annotation then only one 
+ * instance of it is created. This instance is shared by all sessions. 
+ * So it should be thread-safe.
+ */
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface SharedListener {
+}
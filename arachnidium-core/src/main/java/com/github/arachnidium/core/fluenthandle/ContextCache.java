@@ -0,0 +1,231 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.ContextAware;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * It tracks the current mobile context and WebView page on the
+ * client side. So switches to the context (page) which is already 
+ * active are skipped.<br/>
+ * <br/>
+ * It also keeps activity-per-context snapshots. A snapshot is 
+ * invalidated when screen is rotated, when something is navigated/
+ * changed by the driver, when the set of contexts is changed and 
+ * when an expected activity has not been found in the snapshot.<br/>
+ * <br/>
+ * If the context or page is switched bypassing this object then 
+ * {@link #contextIs(String)} or {@link #pageIs(String)} should be invoked.
+ */
+public class ContextCache {
+	
+	private volatile String currentContext;
+	private volatile String currentPage;
+	private volatile Set<String> knownContexts = new HashSet<String>();
+	private final Map<String, String> activities = new ConcurrentHashMap<String, String>();
+	
+	private final AtomicLong contextSwitches = new AtomicLong();
+	private final AtomicLong avoidedContextSwitches = new AtomicLong();
+	private final AtomicLong pageSwitches = new AtomicLong();
+	private final AtomicLong avoidedPageSwitches = new AtomicLong();
+	private final AtomicLong activityReads = new AtomicLong();
+	private final AtomicLong avoidedActivityReads = new AtomicLong();
+	
+	/**
+	 * Switches to the given context if it is not active
+	 * 
+	 * @param contextAware is a {@link ContextAware} driver
+	 * @param context is a context name
+	 */
+	public void switchToContext(ContextAware contextAware, String context) {
+		if (context.equals(currentContext)) {
+			avoidedContextSwitches.incrementAndGet();
+			return;
+		}
+		currentContext = null;
+		currentPage = null;
+		contextAware.context(context);
+		currentContext = context;
+		contextSwitches.incrementAndGet();
+	}
+	
+	/**
+	 * Switches to the given WebView page if it is not active
+	 * 
+	 * @param driver is a {@link WebDriver} which is in WEBVIEW context 
+	 * @param page is a window handle of the page
+	 */
+	public void switchToPage(WebDriver driver, String page) {
+		if (page.equals(currentPage)) {
+			avoidedPageSwitches.incrementAndGet();
+			return;
+		}
+		currentPage = null;
+		driver.switchTo().window(page);
+		currentPage = page;
+		pageSwitches.incrementAndGet();
+	}
+	
+	/**
+	 * Returns the activity of the given context. It is taken
+	 * from the snapshot if it is possible.
+	 * 
+	 * @param driver is an instance of {@link AndroidDriver}
+	 * @param context is a context name
+	 * @return the current activity
+	 */
+	public String getActivity(WebDriver driver, String context) {
+		String activity = activities.get(context);
+		if (activity != null) {
+			avoidedActivityReads.incrementAndGet();
+			return activity;
+		}
+		switchToContext((ContextAware) driver, context);
+		activity = ((AndroidDriver) driver).currentActivity();
+		activityReads.incrementAndGet();
+		if (activity != null) {
+			activities.put(context, activity);
+		}
+		return activity;
+	}
+	
+	/**
+	 * Compares the given set of contexts with the previous one.
+	 * Snapshots are invalidated if a new context has appeared.
+	 * 
+	 * @param contexts is the actual set of context names
+	 * @return the given set
+	 */
+	public Set<String> contextsAre(Set<String> contexts) {
+		if (!knownContexts.containsAll(contexts)) {
+			invalidate();
+		}
+		if (currentContext != null && !contexts.contains(currentContext)) {
+			forget();
+		}
+		knownContexts = new HashSet<String>(contexts);
+		return contexts;
+	}
+	
+	/**
+	 * Records that the given context has been switched on 
+	 * bypassing this object
+	 * 
+	 * @param context is a context name
+	 */
+	public void contextIs(String context) {
+		if (!context.equals(currentContext)) {
+			currentContext = context;
+			currentPage = null;
+		}
+	}
+	
+	/**
+	 * Records that the given WebView page has been switched on 
+	 * bypassing this object
+	 * 
+	 * @param page is a window handle of the page
+	 */
+	public void pageIs(String page) {
+		currentPage = page;
+	}
+	
+	/**
+	 * Records the activity of the given context which has been read 
+	 * bypassing this object
+	 * 
+	 * @param context is a context name
+	 * @param activity is the current activity
+	 */
+	public void activityIs(String context, String activity) {
+		activities.put(context, activity);
+	}
+	
+	/**
+	 * @return the current activity-per-context snapshots
+	 */
+	public Map<String, String> getActivitySnapshot() {
+		return Collections.unmodifiableMap(new HashMap<String, String>(
+				activities));
+	}
+	
+	/**
+	 * Removes all activity snapshots
+	 */
+	public void invalidate() {
+		activities.clear();
+	}
+
+	/**
+	 * Marks the current context and page as unknown and
+	 * removes all activity snapshots
+	 */
+	public void forget() {
+		currentContext = null;
+		currentPage = null;
+		invalidate();
+	}
+	
+	/**
+	 * @return Count of context switches which were performed
+	 */
+	public long getContextSwitchCount() {
+		return contextSwitches.get();
+	}
+
+	/**
+	 * @return Count of context switches which were skipped 
+	 * because the context was already active
+	 */
+	public long getAvoidedContextSwitchCount() {
+		return avoidedContextSwitches.get();
+	}
+	
+	/**
+	 * @return Count of WebView page switches which were performed
+	 */
+	public long getPageSwitchCount() {
+		return pageSwitches.get();
+	}
+
+	/**
+	 * @return Count of WebView page switches which were skipped 
+	 * because the page was already active
+	 */
+	public long getAvoidedPageSwitchCount() {
+		return avoidedPageSwitches.get();
+	}
+	
+	/**
+	 * @return Count of activities which were read remotely
+	 */
+	public long getActivityReadCount() {
+		return activityReads.get();
+	}
+	
+	/**
+	 * @return Count of activities which were taken from snapshots
+	 */
+	public long getAvoidedActivityReadCount() {
+		return avoidedActivityReads.get();
+	}
+	
+	@Override
+	public String toString() {
+		return "context switches: " + contextSwitches.get() + " (avoided "
+				+ avoidedContextSwitches.get() + "), page switches: "
+				+ pageSwitches.get() + " (avoided "
+				+ avoidedPageSwitches.get() + "), activity reads: "
+				+ activityReads.get() + " (avoided "
+				+ avoidedActivityReads.get() + ")";
+	}
+}
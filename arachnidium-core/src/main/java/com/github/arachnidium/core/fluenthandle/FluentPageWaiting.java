@@ -16,15 +16,37 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
  * @see IFluentHandleWaiting
  */
 public class FluentPageWaiting implements IFluentHandleWaiting {
+	
+	private volatile HandleMatch match;
+
+	/**
+	 * @return The last matched handle with the title and URL
+	 * which were read or <code>null</code> if nothing has been
+	 * matched yet
+	 */
+	public HandleMatch getMatch() {
+		return match;
+	}
+
+	private String matched(String handle, String title, String url) {
+		if (handle != null) {
+			match = new HandleMatch(handle, title, url);
+		}
+		return handle;
+	}
 
 	private String getWindowHandleByIndex(final WebDriver from, int windowIndex) {
 		Set<String> handles = from.getWindowHandles();
 		if (handles.size() - 1 >= windowIndex) {
-			from.switchTo().window(handles.toArray()[windowIndex].toString());
 			return new ArrayList<String>(handles).get(windowIndex);
 		} else
 			return null;
 	}
+	
+	private String getMatchedWindowHandleByIndex(final WebDriver from,
+			int windowIndex) {
+		return matched(getWindowHandleByIndex(from, windowIndex), null, null);
+	}
 
 	private static String getHandleWhichMatchesToTitles(String handle,
 			String titleRegExp, String winTitle) {
@@ -66,7 +88,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 			if (resultHandle == null) {
 				continue;
 			}
-			return resultHandle;
+			return matched(resultHandle, winTitle, null);
 		}
 		return resultHandle;
 	}
@@ -89,7 +111,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 			if (resultHandle == null) {
 				continue;
 			}
-			return resultHandle;
+			return matched(resultHandle, null, currentUrl);
 		}
 		return resultHandle;
 	}
@@ -101,17 +123,18 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		if (resultHandle == null) {
 			return null;
 		}
+		String winTitle = match.getTitle();
 
 		String currentUrl = null;
 		try {
-			from.switchTo().window(resultHandle);
+			// the matched window is already switched on
 			currentUrl = from.getCurrentUrl();
 		} catch (TimeoutException e) {
 			return null;
 		}
 
-		return getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
-				currentUrl);
+		return matched(getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
+				currentUrl), winTitle, currentUrl);
 	}
 
 	private String getWindowHandleByIndexAndTitle(final WebDriver from,
@@ -129,8 +152,8 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 			return null;
 		}
 
-		return getHandleWhichMatchesToTitles(resultHandle, titleRegExp,
-				winTitle);
+		return matched(getHandleWhichMatchesToTitles(resultHandle, titleRegExp,
+				winTitle), winTitle, null);
 	}
 
 	private String getWindowHandleByAllConditions(final WebDriver from,
@@ -155,8 +178,8 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		if (resultHandle == null) {
 			return null;
 		}
-		return getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
-				currentUrl);
+		return matched(getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
+				currentUrl), winTitle, currentUrl);
 	}
 
 	private String getWindowHandleByIndexAndURLs(final WebDriver from,
@@ -173,8 +196,8 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		} catch (TimeoutException e) {
 			return null;
 		}
-		return getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
-				currentUrl);
+		return matched(getHandleWhichMatchesToURLs(resultHandle, urlsRegExps,
+				currentUrl), null, currentUrl);
 	}
 
 	/**
@@ -185,7 +208,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 	 */
 	@Override
 	public ExpectedCondition<String> getHandle(int index) {
-		return from -> getWindowHandleByIndex(from, index);
+		return from -> getMatchedWindowHandleByIndex(from, index);
 	}
 
 	/**
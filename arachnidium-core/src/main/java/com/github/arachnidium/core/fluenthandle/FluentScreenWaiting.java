@@ -1,7 +1,5 @@
 package com.github.arachnidium.core.fluenthandle;
 
-import io.appium.java_client.android.AndroidDriver;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -14,6 +12,36 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 
 public class FluentScreenWaiting implements IFluentHandleWaiting {
 	
+	private final ContextCache contextCache;
+	
+	public FluentScreenWaiting() {
+		this(new ContextCache());
+	}
+	
+	/**
+	 * @param contextCache is used to skip needless context switches 
+	 * and to take activities from snapshots
+	 */
+	public FluentScreenWaiting(ContextCache contextCache) {
+		this.contextCache = contextCache;
+	}
+	
+	private String getActivity(final WebDriver from, String context) {
+		return contextCache.getActivity(from, context);
+	}
+	
+	// the snapshot is not trusted anymore if the expected 
+	// activity has not been found there
+	private String missed() {
+		contextCache.invalidate();
+		return null;
+	}
+	
+	private Set<String> getContextHandles(final WebDriver from) {
+		return contextCache.contextsAre(((ContextAware) from)
+				.getContextHandles());
+	}
+	
 	private static String getContextWhichMatchesToContextExpression(
 			String contextRegExp, String currentContext) {
 		Pattern p = Pattern.compile(contextRegExp);
@@ -38,10 +66,11 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	}	
 	
 	private String getContextByIndex(final WebDriver from, int contextIndex) {
-		Set<String> handles = ((ContextAware) from).getContextHandles();
+		Set<String> handles = getContextHandles(from);
 		if (handles.size() - 1 >= contextIndex) {
-			((ContextAware) from).context(handles.toArray()[contextIndex].toString());
-			return new ArrayList<String>(handles).get(contextIndex);
+			String context = new ArrayList<String>(handles).get(contextIndex);
+			contextCache.switchToContext((ContextAware) from, context);
+			return context;
 		} else
 			return null;
 	}	
@@ -60,8 +89,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	private String getContextByExpression(final WebDriver from,
 			String contextRegExp) {
 		String resultHandle = null;
-		ContextAware contextAware = ((ContextAware) from);
-		Set<String> handles = contextAware.getContextHandles();
+		Set<String> handles = getContextHandles(from);
 		for (String handle : handles) {
 			resultHandle = getContextWhichMatchesToContextExpression(contextRegExp, 
 					handle);
@@ -76,10 +104,9 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	private String getContextByAcivities(final WebDriver from,
 			List<String> activitiesRegExps) {
 		String resultHandle = null;
-		ContextAware contextAware = ((ContextAware) from);
-		Set<String> handles = contextAware.getContextHandles();
+		Set<String> handles = getContextHandles(from);
 		for (String handle : handles) {
-			String currentActivity = ((AndroidDriver) contextAware.context(handle)).currentActivity();
+			String currentActivity = getActivity(from, handle);
 
 			resultHandle = getContextWhichMatchesToActivities(handle, activitiesRegExps,
 					currentActivity);
@@ -88,7 +115,7 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 			}
 			return resultHandle;
 		}
-		return resultHandle;
+		return missed();
 	}	
 	
 	private String getContextByIndexAndActivities(final WebDriver from,
@@ -97,10 +124,13 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 		if (resultHandle == null) {
 			return null;
 		}
-		ContextAware contextAware = ((ContextAware) from);
-		String currentActivity = ((AndroidDriver) contextAware.context(resultHandle)).currentActivity();
+		String currentActivity = getActivity(from, resultHandle);
 		
-		return getContextWhichMatchesToActivities(resultHandle, activitiesRegExps, currentActivity);
+		resultHandle = getContextWhichMatchesToActivities(resultHandle, activitiesRegExps, currentActivity);
+		if (resultHandle == null) {
+			return missed();
+		}
+		return resultHandle;
 	}	
 
 	private String getContextByContextExpressionAndActivities(final WebDriver from,
@@ -111,11 +141,14 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 			return null;
 		}
 
-		ContextAware contextAware = ((ContextAware) from);
-		String currentActivity = ((AndroidDriver) contextAware.context(resultHandle)).currentActivity();
+		String currentActivity = getActivity(from, resultHandle);
 
-		return getContextWhichMatchesToActivities(resultHandle, activitiesRegExps,
+		resultHandle = getContextWhichMatchesToActivities(resultHandle, activitiesRegExps,
 				currentActivity);
+		if (resultHandle == null) {
+			return missed();
+		}
+		return resultHandle;
 	}	
 	
 	private String getContextByAllConditions(final WebDriver from,
@@ -125,16 +158,19 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 			return null;
 		}
 
-		ContextAware contextAware = ((ContextAware) from);
-		String currentActivity = ((AndroidDriver) contextAware.context(resultHandle)).currentActivity();
-
 		resultHandle = getContextWhichMatchesToContextExpression(contextRegExp,
 				resultHandle);
 		if (resultHandle == null) {
 			return null;
 		}
-		return getContextWhichMatchesToActivities(resultHandle, activitiesRegExps,
+		String currentActivity = getActivity(from, resultHandle);
+		
+		resultHandle = getContextWhichMatchesToActivities(resultHandle, activitiesRegExps,
 				currentActivity);
+		if (resultHandle == null) {
+			return missed();
+		}
+		return resultHandle;
 	}	
 	
 	/**
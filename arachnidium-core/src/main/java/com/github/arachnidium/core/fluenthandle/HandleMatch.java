@@ -0,0 +1,56 @@
+package com.github.arachnidium.core.fluenthandle;
+
+/**
+ * It is the result of the handle resolving. It contains
+ * the string handle and everything that has been read 
+ * when the handle was matched (title, URL). These values
+ * can be reused instead of the extra remote commands.<br/>
+ * <br/>
+ * Title and URL are <code>null</code> if they have not been read.
+ */
+public final class HandleMatch {
+	private final String handle;
+	private final String title;
+	private final String url;
+
+	public HandleMatch(String handle, String title, String url) {
+		this.handle = handle;
+		this.title = title;
+		this.url = url;
+	}
+
+	/**
+	 * @return String window handle/context name
+	 */
+	public String getHandle() {
+		return handle;
+	}
+
+	/**
+	 * @return Title which was read when the handle was matched
+	 * or <code>null</code>
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * @return URL which was read when the handle was matched
+	 * or <code>null</code>
+	 */
+	public String getUrl() {
+		return url;
+	}
+
+	@Override
+	public String toString() {
+		String result = "handle is " + handle;
+		if (title != null) {
+			result = result + " title is " + title;
+		}
+		if (url != null) {
+			result = result + " URL is " + url;
+		}
+		return result;
+	}
+}
@@ -15,10 +15,15 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 
+import com.github.arachnidium.core.profiling.FlightRecorderEvents;
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
+import com.github.arachnidium.core.profiling.TraceTrack;
 import com.github.arachnidium.core.settings.ScreenShots;
 
 /**
- * The default implementor of {@link IWebElementHighlighter}
+ * The default implementor of {@link IWebElementHighlighter}.<br/>
+ * Settings are cached. They are read again only by
+ * {@link #resetAccordingTo(Configuration)}
  */
 public class WebElementHighLighter implements IConfigurable,
 		IWebElementHighlighter {
@@ -26,6 +31,19 @@ public class WebElementHighLighter implements IConfigurable,
 	// is this doing screenshots
 	private boolean toDoScreenShots;
 	private final boolean isDoingScreenShotsByDefault = true;
+	private final TraceTrack trace;
+
+	public WebElementHighLighter() {
+		this(TraceTrack.DISABLED);
+	}
+
+	/**
+	 * @param trace is the {@link TraceTrack} which highlighting and 
+	 * screenshots are written to
+	 */
+	public WebElementHighLighter(TraceTrack trace) {
+		this.trace = trace;
+	}
 
 	private void execDecorativeScript(JavascriptExecutor scriptExecutor,
 			WebElement element, String script) throws InterruptedException {
@@ -156,6 +174,8 @@ public class WebElementHighLighter implements IConfigurable,
 
 	private void highlightelement(WebDriver driver, WebElement webElement,
 			Color color, eAvailableLevels LogLevel, String comment) {
+		Object event = FlightRecorderEvents.begin(Operation.HIGHLIGHT);
+		long startedAt = trace.begin();
 		try {
 			String originalStyle = getOriginalStyle(webElement);
 			setNewColor((JavascriptExecutor) driver, webElement,
@@ -163,7 +183,7 @@ public class WebElementHighLighter implements IConfigurable,
 							+ Integer.toString(color.getGreen()) + ","
 							+ Integer.toString(color.getBlue()) + ")");
 			if (toDoScreenShots)
-				Photographer.takeAPictureForLog(driver, LogLevel, comment);
+				takeAPictureForLog(driver, LogLevel, comment);
 			else
 				Log.log(LogLevel, comment);
 			setStyle((JavascriptExecutor) driver, webElement, originalStyle);
@@ -171,9 +191,22 @@ public class WebElementHighLighter implements IConfigurable,
 			// supported
 		catch (WebDriverException e) {
 			if (toDoScreenShots && !LogLevel.equals(eAvailableLevels.FINE))
-				Photographer.takeAPictureForLog(driver, LogLevel, comment);
+				takeAPictureForLog(driver, LogLevel, comment);
 			else
 				Log.log(LogLevel, comment);
+		} finally {
+			trace.end(startedAt, "highlighting", "highlight", comment);
+			FlightRecorderEvents.end(event, comment);
+		}
+	}
+
+	private void takeAPictureForLog(WebDriver driver,
+			eAvailableLevels LogLevel, String comment) {
+		long startedAt = trace.begin();
+		try {
+			Photographer.takeAPictureForLog(driver, LogLevel, comment);
+		} finally {
+			trace.end(startedAt, "screenshot", "screenshot", comment);
 		}
 	}
 
@@ -2,6 +2,8 @@ package com.github.arachnidium.core.interfaces;
 
 import org.openqa.selenium.WebDriver.Window;
 
+import com.github.arachnidium.core.fluenthandle.HandleMatch;
+
 /**
  * This interface extends {@link Window}
  */
@@ -22,4 +24,10 @@ public interface IExtendedWindow extends Window, ITakesPictureOfItSelf, ISwitche
 	 * Attempts to close the given browser
 	 */
 	public void close();
+	
+	/**
+	 * @return Values (title, URL) which were read when
+	 * the given browser window was found
+	 */
+	public HandleMatch getHandleMatch();
 }
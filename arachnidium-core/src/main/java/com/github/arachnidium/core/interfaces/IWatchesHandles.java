@@ -0,0 +1,23 @@
+package com.github.arachnidium.core.interfaces;
+
+import org.openqa.selenium.WebDriver.Window;
+
+/**
+ * For entities which watch the set of string handles 
+ * (e.g. browser windows, see {@link Window}) and report
+ * about changes
+ */
+public interface IWatchesHandles {
+	
+	/**
+	 * It is invoked when a new handle is detected
+	 * @param handle A new string handle
+	 */
+	public void handleIsAppeared(String handle);
+	
+	/**
+	 * It is invoked when a known handle is not present anymore
+	 * @param handle The string handle which has disappeared
+	 */
+	public void handleIsDisappeared(String handle);
+}
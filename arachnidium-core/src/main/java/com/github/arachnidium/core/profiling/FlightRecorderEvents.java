@@ -0,0 +1,107 @@
+package com.github.arachnidium.core.profiling;
+
+/**
+ * Emits Java Flight Recorder events of framework operations. So they are
+ * visible in recordings as named events instead of anonymous CGLIB and
+ * AspectJ frames.<br/>
+ * <br/>
+ * Events are emitted only when <code>jdk.jfr</code> is available (Java 8u262
+ * and later) and they are enabled by the running recording. Otherwise
+ * {@link #begin(Operation)} returns <code>null</code> without allocations and
+ * {@link #end(Object, Object)} does nothing.<br/>
+ * <br/>
+ * Usage:<br/>
+ * <code>Object event = FlightRecorderEvents.begin(Operation.HIGHLIGHT);<br/>
+ * try {<br/>
+ * ...<br/>
+ * } finally {<br/>
+ * FlightRecorderEvents.end(event, element);<br/>
+ * }</code>
+ */
+public final class FlightRecorderEvents {
+
+	/**
+	 * Operations which are recorded
+	 */
+	public static enum Operation {
+		/**
+		 * Switching to a window or a mobile context
+		 */
+		HANDLE_SWITCH,
+		/**
+		 * Switching to frames
+		 */
+		FRAME_SWITCH,
+		/**
+		 * Creation of a part by <code>getPart</code>
+		 */
+		GET_PART,
+		/**
+		 * Creation of a list of parts
+		 */
+		LIST_MATERIALIZATION,
+		/**
+		 * Highlighting of an element
+		 */
+		HIGHLIGHT,
+		/**
+		 * Invocation of a listener
+		 */
+		LISTENER_DISPATCH;
+	}
+
+	private static final boolean IS_SUPPORTED = isSupported();
+
+	private static boolean isSupported() {
+		try {
+			Class.forName("jdk.jfr.Event", false,
+					FlightRecorderEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private FlightRecorderEvents() {
+		super();
+	}
+
+	/**
+	 * Starts the event
+	 *
+	 * @param operation is the recorded {@link Operation}
+	 * @return the started event or <code>null</code> if it is not recorded
+	 */
+	public static Object begin(Operation operation) {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+		return OperationEvents.start(operation);
+	}
+
+	/**
+	 * Finishes and commits the event
+	 *
+	 * @param event is the value returned by {@link #begin(Operation)}
+	 * @param subject is the handle, the class, the element etc. Its string
+	 *            value is taken only if the event is committed
+	 */
+	public static void end(Object event, Object subject) {
+		end(event, subject, 0);
+	}
+
+	/**
+	 * Finishes and commits the event
+	 *
+	 * @param event is the value returned by {@link #begin(Operation)}
+	 * @param subject is the handle, the class, the element etc. Its string
+	 *            value is taken only if the event is committed
+	 * @param size is the count of created objects, bytes etc.
+	 */
+	public static void end(Object event, Object subject, long size) {
+		if (event == null) {
+			return;
+		}
+		OperationEvents.finish(event, subject, size);
+	}
+}
@@ -0,0 +1,19 @@
+package com.github.arachnidium.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The superclass of Java Flight Recorder events which are emitted by
+ * {@link FlightRecorderEvents}. Subclasses are declared by
+ * {@link OperationEvents}.
+ */
+@Category("Arachnidium")
+abstract class OperationEvent extends Event {
+	@Label("Subject")
+	String subject;
+
+	@Label("Size")
+	long size;
+}
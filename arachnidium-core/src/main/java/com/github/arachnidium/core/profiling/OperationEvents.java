@@ -0,0 +1,99 @@
+package com.github.arachnidium.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import com.github.arachnidium.core.profiling.FlightRecorderEvents.Operation;
+
+/**
+ * Java Flight Recorder events which are emitted by
+ * {@link FlightRecorderEvents}. This class is loaded only when
+ * <code>jdk.jfr</code> is available.<br/>
+ * <br/>
+ * Events are not nested in {@link OperationEvent}. JFR fails to instrument
+ * event classes which are nested in their superclass.
+ */
+final class OperationEvents {
+
+	@Name("com.github.arachnidium.HandleSwitch")
+	@Label("Handle Switch")
+	@Description("Switching to a window or a mobile context")
+	static final class HandleSwitch extends OperationEvent {
+	}
+
+	@Name("com.github.arachnidium.FrameSwitch")
+	@Label("Frame Switch")
+	@Description("Switching to frames of a part")
+	static final class FrameSwitch extends OperationEvent {
+	}
+
+	@Name("com.github.arachnidium.GetPart")
+	@Label("Get Part")
+	@Description("Creation of a part")
+	static final class GetPart extends OperationEvent {
+	}
+
+	@Name("com.github.arachnidium.ListMaterialization")
+	@Label("List Materialization")
+	@Description("Creation of a list of parts. The size is the count of parts")
+	static final class ListMaterialization extends OperationEvent {
+	}
+
+	@Name("com.github.arachnidium.Highlight")
+	@Label("Highlight")
+	@Description("Highlighting of an element")
+	static final class Highlight extends OperationEvent {
+	}
+
+	@Name("com.github.arachnidium.ListenerDispatch")
+	@Label("Listener Dispatch")
+	@Description("Invocation of a listener method")
+	static final class ListenerDispatch extends OperationEvent {
+	}
+
+	private OperationEvents() {
+		super();
+	}
+
+	// they are used to check whether events are enabled without allocations
+	private static final OperationEvent[] PROTOTYPES = new OperationEvent[] {
+			new HandleSwitch(), new FrameSwitch(), new GetPart(),
+			new ListMaterialization(), new Highlight(), new ListenerDispatch() };
+
+	private static OperationEvent create(Operation operation) {
+		switch (operation) {
+		case HANDLE_SWITCH:
+			return new HandleSwitch();
+		case FRAME_SWITCH:
+			return new FrameSwitch();
+		case GET_PART:
+			return new GetPart();
+		case LIST_MATERIALIZATION:
+			return new ListMaterialization();
+		case HIGHLIGHT:
+			return new Highlight();
+		default:
+			return new ListenerDispatch();
+		}
+	}
+
+	static Object start(Operation operation) {
+		if (!PROTOTYPES[operation.ordinal()].isEnabled()) {
+			return null;
+		}
+		OperationEvent event = create(operation);
+		event.begin();
+		return event;
+	}
+
+	static void finish(Object started, Object subject, long size) {
+		OperationEvent event = (OperationEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.subject = String.valueOf(subject);
+			event.size = size;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.github.arachnidium.core.profiling;
+
+/**
+ * Phases of a profiled invocation. Wall time of an invocation is split
+ * between them by {@link PhaseProfiler}
+ */
+public enum Phase {
+	/**
+	 * Switching to the window, mobile context or frames
+	 */
+	SWITCH_TO_ME,
+	/**
+	 * Reading and resetting of implicit time outs
+	 */
+	IMPLICIT_WAIT,
+	/**
+	 * Waiting for the root element
+	 */
+	ROOT_ELEMENT,
+	/**
+	 * The invoked method itself
+	 */
+	USER_CODE,
+	/**
+	 * Listeners of WebDriver events. It includes highlighting of elements,
+	 * logging and screenshots
+	 */
+	LISTENERS;
+}
@@ -0,0 +1,266 @@
+package com.github.arachnidium.core.profiling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Splits wall time of profiled invocations (e.g. methods of page objects)
+ * between {@link Phase}s and aggregates it by invocation names. There is one
+ * instance per session.<br/>
+ * <br/>
+ * It is turned on by the <code>arachnidium.profiling</code> system property
+ * which is "true". Otherwise all methods do nothing.<br/>
+ * <br/>
+ * An invocation is started by {@link #begin(String)} and finished by
+ * {@link #end()} on the same thread. It is in the {@link Phase#USER_CODE}
+ * phase until some code calls {@link #enter(Phase)} and {@link #exit(Phase)}.
+ * Time of nested invocations and phases is not counted by outer ones. So
+ * each nanosecond is counted once.
+ */
+public class PhaseProfiler {
+	public final static String PROFILING_PROPERTY = "arachnidium.profiling";
+	public final static boolean IS_ENABLED = Boolean
+			.getBoolean(PROFILING_PROPERTY);
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final ThreadLocal<Invocation> current = new ThreadLocal<Invocation>();
+
+	/**
+	 * The invocation which is being performed by the current thread
+	 */
+	private static final class Invocation {
+		private final PhaseProfiler profiler;
+		private final String name;
+		private final Invocation outer;
+		private final long startedAt;
+		private final long[] phaseNanos = new long[PHASES.length];
+		private Phase phase = Phase.USER_CODE;
+		private long phaseStartedAt;
+
+		private Invocation(PhaseProfiler profiler, String name,
+				Invocation outer, long startedAt) {
+			this.profiler = profiler;
+			this.name = name;
+			this.outer = outer;
+			this.startedAt = startedAt;
+			this.phaseStartedAt = startedAt;
+		}
+
+		private void account(long now) {
+			phaseNanos[phase.ordinal()] += now - phaseStartedAt;
+			phaseStartedAt = now;
+		}
+	}
+
+	/**
+	 * Aggregated invocations with the same name
+	 */
+	private static final class Profile {
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder wallNanos = new LongAdder();
+		private final LongAdder[] phaseNanos = new LongAdder[PHASES.length];
+
+		private Profile() {
+			for (int i = 0; i < phaseNanos.length; i++) {
+				phaseNanos[i] = new LongAdder();
+			}
+		}
+
+		private long getSelfNanos() {
+			long result = 0;
+			for (LongAdder nanos : phaseNanos) {
+				result += nanos.sum();
+			}
+			return result;
+		}
+	}
+
+	private final Map<String, Profile> profiles = new ConcurrentHashMap<String, Profile>();
+
+	/**
+	 * Starts the invocation on the current thread. It should be followed by
+	 * {@link #end()} in the <code>finally</code> block
+	 *
+	 * @param name is the name of the invocation, e.g.
+	 *            <code>SomePage#someMethod</code>
+	 */
+	public void begin(String name) {
+		if (!IS_ENABLED) {
+			return;
+		}
+		long now = System.nanoTime();
+		Invocation outer = current.get();
+		if (outer != null) {
+			outer.account(now);
+		}
+		current.set(new Invocation(this, name, outer, now));
+	}
+
+	/**
+	 * Finishes the invocation which has been started by
+	 * {@link #begin(String)} on the current thread
+	 */
+	public static void end() {
+		if (!IS_ENABLED) {
+			return;
+		}
+		Invocation invocation = current.get();
+		if (invocation == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		invocation.account(now);
+		invocation.profiler.record(invocation, now);
+		current.set(invocation.outer);
+		if (invocation.outer != null) {
+			invocation.outer.phaseStartedAt = now;
+		}
+	}
+
+	/**
+	 * Switches the current invocation to the given phase
+	 *
+	 * @param phase is the new {@link Phase}
+	 * @return the previous {@link Phase} which should be given to
+	 *         {@link #exit(Phase)} in the <code>finally</code> block. It is
+	 *         <code>null</code> if nothing is profiled on the current thread
+	 */
+	public static Phase enter(Phase phase) {
+		if (!IS_ENABLED) {
+			return null;
+		}
+		Invocation invocation = current.get();
+		if (invocation == null) {
+			return null;
+		}
+		invocation.account(System.nanoTime());
+		Phase previous = invocation.phase;
+		invocation.phase = phase;
+		return previous;
+	}
+
+	/**
+	 * Returns the current invocation to the previous phase
+	 *
+	 * @param previous is the value returned by {@link #enter(Phase)}
+	 */
+	public static void exit(Phase previous) {
+		if (previous == null) {
+			return;
+		}
+		Invocation invocation = current.get();
+		if (invocation == null) {
+			return;
+		}
+		invocation.account(System.nanoTime());
+		invocation.phase = previous;
+	}
+
+	private void record(Invocation invocation, long now) {
+		Profile profile = profiles.get(invocation.name);
+		if (profile == null) {
+			profile = profiles.computeIfAbsent(invocation.name,
+					(n) -> new Profile());
+		}
+		profile.calls.increment();
+		profile.wallNanos.add(now - invocation.startedAt);
+		for (int i = 0; i < PHASES.length; i++) {
+			if (invocation.phaseNanos[i] != 0) {
+				profile.phaseNanos[i].add(invocation.phaseNanos[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return Names of profiled invocations
+	 */
+	public Set<String> getNames() {
+		return new TreeSet<String>(profiles.keySet());
+	}
+
+	/**
+	 * @param name is the name of an invocation
+	 * @return Count of invocations with the given name
+	 */
+	public long getCallCount(String name) {
+		Profile profile = profiles.get(name);
+		return profile == null ? 0 : profile.calls.sum();
+	}
+
+	/**
+	 * @param name is the name of an invocation
+	 * @param unit is the required {@link TimeUnit}
+	 * @return Wall time of invocations with the given name. It includes
+	 *         nested invocations
+	 */
+	public long getWallTime(String name, TimeUnit unit) {
+		Profile profile = profiles.get(name);
+		return profile == null ? 0 : unit.convert(profile.wallNanos.sum(),
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @param name is the name of an invocation
+	 * @param phase is the required {@link Phase}
+	 * @param unit is the required {@link TimeUnit}
+	 * @return Time which has been spent in the given phase by invocations
+	 *         with the given name
+	 */
+	public long getTime(String name, Phase phase, TimeUnit unit) {
+		Profile profile = profiles.get(name);
+		return profile == null ? 0 : unit.convert(
+				profile.phaseNanos[phase.ordinal()].sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return <code>true</code> if nothing has been profiled
+	 */
+	public boolean isEmpty() {
+		return profiles.isEmpty();
+	}
+
+	/**
+	 * @return Table of profiled invocations. Invocations which took more time
+	 *         (nested invocations are excluded) are the first
+	 */
+	public String getReport() {
+		List<Map.Entry<String, Profile>> entries = new ArrayList<Map.Entry<String, Profile>>(
+				profiles.entrySet());
+		Collections.sort(entries, (e1, e2) -> Long.compare(e2.getValue()
+				.getSelfNanos(), e1.getValue().getSelfNanos()));
+
+		StringBuilder report = new StringBuilder(String.format(
+				"%10s %12s %12s", "calls", "wall ms", "self ms"));
+		for (Phase phase : PHASES) {
+			report.append(String.format(" %14s", phase.name().toLowerCase()));
+		}
+		report.append("  method");
+		for (Map.Entry<String, Profile> entry : entries) {
+			Profile profile = entry.getValue();
+			report.append(String.format("\n%10d %12.1f %12.1f",
+					profile.calls.sum(), toMillis(profile.wallNanos.sum()),
+					toMillis(profile.getSelfNanos())));
+			for (LongAdder nanos : profile.phaseNanos) {
+				report.append(String.format(" %14.1f", toMillis(nanos.sum())));
+			}
+			report.append("  ").append(entry.getKey());
+		}
+		return report.toString();
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1000000.0;
+	}
+
+	@Override
+	public String toString() {
+		return getReport();
+	}
+}
@@ -0,0 +1,213 @@
+package com.github.arachnidium.core.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Writes the timeline of the run as a Chrome Trace Event JSON file. It can be
+ * opened by <code>about:tracing</code> or Perfetto. Each
+ * {@link com.github.arachnidium.core.WebDriverEncapsulation} gets its own
+ * {@link TraceTrack}.<br/>
+ * <br/>
+ * It is turned on by the <code>arachnidium.trace</code> system property which
+ * is the path of the file. If it is a directory then the file
+ * <code>arachnidium-trace-&lt;time&gt;.json</code> is created there. Otherwise
+ * tracks do nothing.<br/>
+ * <br/>
+ * Events are streamed to the file through the fixed buffer. So memory doesn't
+ * grow on long runs. The buffer is flushed when it is full, when a track is
+ * closed and when the JVM exits. If the file can't be written then the
+ * warning is logged and tracing is stopped.
+ */
+public final class TraceRecorder {
+	public final static String TRACE_PROPERTY = "arachnidium.trace";
+	public final static boolean IS_ENABLED = System.getProperty(TRACE_PROPERTY) != null;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static TraceRecorder instance;
+
+	private final File file;
+	private final long origin = System.nanoTime();
+	private final AtomicInteger trackCount = new AtomicInteger();
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private FileChannel channel;
+	private boolean isFirstEvent = true;
+
+	private TraceRecorder(File file) throws IOException {
+		this.file = file;
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		buffer.put((byte) '[');
+	}
+
+	private static File getFile() {
+		File file = new File(System.getProperty(TRACE_PROPERTY));
+		if (file.isDirectory()) {
+			return new File(file, "arachnidium-trace-"
+					+ System.currentTimeMillis() + ".json");
+		}
+		return file;
+	}
+
+	private static synchronized TraceRecorder getInstance() {
+		if (instance == null) {
+			File file = getFile();
+			try {
+				instance = new TraceRecorder(file);
+			} catch (IOException e) {
+				Log.warning("Trace can't be written to " + file.getAbsolutePath(), e);
+				return null;
+			}
+			Runtime.getRuntime().addShutdownHook(
+					new Thread(instance::close, "arachnidium-trace-closing"));
+			Log.message("Trace is written to " + file.getAbsolutePath());
+		}
+		return instance;
+	}
+
+	/**
+	 * Creates the track of a session
+	 *
+	 * @param name is shown as the name of the track
+	 * @return a new {@link TraceTrack} or {@link TraceTrack#DISABLED} if
+	 *         tracing is turned off
+	 */
+	public static TraceTrack newTrack(String name) {
+		if (!IS_ENABLED) {
+			return TraceTrack.DISABLED;
+		}
+		TraceRecorder recorder = getInstance();
+		if (recorder == null) {
+			return TraceTrack.DISABLED;
+		}
+		return new TraceTrack(recorder, recorder.trackCount.incrementAndGet(),
+				name);
+	}
+
+	/**
+	 * @return microseconds since the start of the recorder
+	 */
+	long toMicros(long nanos) {
+		return (nanos - origin) / 1000;
+	}
+
+	/**
+	 * Appends the JSON object of an event
+	 */
+	synchronized void write(CharSequence event) {
+		if (channel == null) {
+			return;
+		}
+		byte[] bytes = new StringBuilder(event.length() + 2)
+				.append(isFirstEvent ? "\n" : ",\n").append(event).toString()
+				.getBytes(StandardCharsets.UTF_8);
+		isFirstEvent = false;
+		try {
+			if (bytes.length > buffer.remaining()) {
+				drain();
+			}
+			if (bytes.length > buffer.capacity()) {
+				writeFully(ByteBuffer.wrap(bytes));
+			} else {
+				buffer.put(bytes);
+			}
+		} catch (IOException e) {
+			stop(e);
+		}
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			channel.write(source);
+		}
+	}
+
+	private void drain() throws IOException {
+		buffer.flip();
+		writeFully(buffer);
+		buffer.clear();
+	}
+
+	private void stop(IOException e) {
+		Log.warning("Trace can't be written to " + file.getAbsolutePath()
+				+ ". Tracing is stopped", e);
+		try {
+			channel.close();
+		} catch (IOException ignored) {
+		}
+		channel = null;
+	}
+
+	/**
+	 * Writes buffered events to the file
+	 */
+	synchronized void flush() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			drain();
+		} catch (IOException e) {
+			stop(e);
+		}
+	}
+
+	private synchronized void close() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			if (buffer.remaining() < 2) {
+				drain();
+			}
+			buffer.put((byte) '\n').put((byte) ']');
+			drain();
+			channel.close();
+		} catch (IOException e) {
+			stop(e);
+		}
+		channel = null;
+	}
+
+	/**
+	 * Appends the string as a JSON value
+	 */
+	static StringBuilder appendString(StringBuilder json, Object value) {
+		String string = String.valueOf(value);
+		json.append('"');
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			switch (c) {
+			case '"':
+				json.append("\\\"");
+				break;
+			case '\\':
+				json.append("\\\\");
+				break;
+			case '\n':
+				json.append("\\n");
+				break;
+			case '\r':
+				json.append("\\r");
+				break;
+			case '\t':
+				json.append("\\t");
+				break;
+			default:
+				if (c < ' ') {
+					json.append(String.format("\\u%04x", (int) c));
+				} else {
+					json.append(c);
+				}
+			}
+		}
+		return json.append('"');
+	}
+}
@@ -0,0 +1,224 @@
+package com.github.arachnidium.core.profiling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The track of a session which is written by {@link TraceRecorder}. It is
+ * shown as a process. Its rows are the active window/context, the active
+ * frame and threads which used the session.<br/>
+ * <br/>
+ * Usage:<br/>
+ * <code>long startedAt = track.begin();<br/>
+ * try {<br/>
+ * ...<br/>
+ * } finally {<br/>
+ * track.end(startedAt, "category", "name", detail);<br/>
+ * }</code><br/>
+ * <br/>
+ * All methods do nothing if tracing is turned off.
+ */
+public final class TraceTrack {
+	/**
+	 * The track which does nothing
+	 */
+	public static final TraceTrack DISABLED = new TraceTrack(null, 0, null);
+
+	private static final int HANDLE_ROW = 1;
+	private static final int FRAME_ROW = 2;
+
+	private final TraceRecorder recorder;
+	private final int id;
+	// thread id -> row
+	private final Map<Long, Integer> threadRows = new ConcurrentHashMap<Long, Integer>();
+	private final AtomicInteger rowCount = new AtomicInteger(FRAME_ROW);
+	private String activeHandle;
+	private long handleActivatedAt;
+	private String activeFrame;
+	private long frameActivatedAt;
+
+	TraceTrack(TraceRecorder recorder, int id, String name) {
+		this.recorder = recorder;
+		this.id = id;
+		if (recorder == null) {
+			return;
+		}
+		writeMetadata("process_name", -1, "name", name);
+		writeMetadata("process_sort_index", -1, "sort_index", id);
+		writeRowMetadata(HANDLE_ROW, "Active window/context");
+		writeRowMetadata(FRAME_ROW, "Active frame");
+	}
+
+	private void writeMetadata(String type, int row, String key, Object value) {
+		StringBuilder json = new StringBuilder("{\"name\":\"").append(type)
+				.append("\",\"ph\":\"M\",\"pid\":").append(id);
+		if (row > 0) {
+			json.append(",\"tid\":").append(row);
+		}
+		json.append(",\"args\":{\"").append(key).append("\":");
+		if (value instanceof Number) {
+			json.append(value);
+		} else {
+			TraceRecorder.appendString(json, value);
+		}
+		recorder.write(json.append("}}"));
+	}
+
+	private void writeRowMetadata(int row, String name) {
+		writeMetadata("thread_name", row, "name", name);
+		writeMetadata("thread_sort_index", row, "sort_index", row);
+	}
+
+	// names of threads are not used. They are changed by Selenium
+	// while commands are performed
+	private int getCurrentRow() {
+		long threadId = Thread.currentThread().getId();
+		Integer row = threadRows.get(threadId);
+		if (row == null) {
+			row = threadRows.computeIfAbsent(threadId, (id) -> {
+				int newRow = rowCount.incrementAndGet();
+				writeRowMetadata(newRow, "Thread " + id);
+				return newRow;
+			});
+		}
+		return row;
+	}
+
+	private void writeSpan(int row, long startedAt, long endedAt,
+			String category, String name, Object detail) {
+		long startedAtMicros = recorder.toMicros(startedAt);
+		StringBuilder json = new StringBuilder(128).append("{\"name\":");
+		TraceRecorder.appendString(json, name).append(",\"cat\":\"")
+				.append(category).append("\",\"ph\":\"X\",\"ts\":")
+				.append(startedAtMicros).append(",\"dur\":")
+				.append(recorder.toMicros(endedAt) - startedAtMicros)
+				.append(",\"pid\":").append(id).append(",\"tid\":").append(row);
+		if (detail != null) {
+			TraceRecorder.appendString(json.append(",\"args\":{\"detail\":"),
+					detail).append('}');
+		}
+		recorder.write(json.append('}'));
+	}
+
+	/**
+	 * @return <code>true</code> if events are written
+	 */
+	public boolean isEnabled() {
+		return recorder != null;
+	}
+
+	/**
+	 * Adds a label to the track, e.g. the session id
+	 *
+	 * @param label is the label
+	 */
+	public void addLabel(String label) {
+		if (recorder == null) {
+			return;
+		}
+		writeMetadata("process_labels", -1, "labels", label);
+	}
+
+	/**
+	 * @return the time which should be given to
+	 *         {@link #end(long, String, String, Object)}
+	 */
+	public long begin() {
+		return recorder == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Writes the span which has been performed by the current thread
+	 *
+	 * @param startedAt is the value returned by {@link #begin()}
+	 * @param category is the category, e.g. "command"
+	 * @param name is the name, e.g. the name of a command
+	 */
+	public void end(long startedAt, String category, String name) {
+		end(startedAt, category, name, null);
+	}
+
+	/**
+	 * Writes the span which has been performed by the current thread
+	 *
+	 * @param startedAt is the value returned by {@link #begin()}
+	 * @param category is the category, e.g. "command"
+	 * @param name is the name, e.g. the name of a command
+	 * @param detail is shown as the argument of the span. It may be
+	 *            <code>null</code>
+	 */
+	public void end(long startedAt, String category, String name,
+			Object detail) {
+		if (recorder == null) {
+			return;
+		}
+		writeSpan(getCurrentRow(), startedAt, System.nanoTime(), category,
+				name, detail);
+	}
+
+	/**
+	 * Marks the window/context as active. The active frame is reset.
+	 *
+	 * @param handle is the window handle/context name
+	 */
+	public synchronized void setActiveHandle(String handle) {
+		if (recorder == null || handle.equals(activeHandle)) {
+			return;
+		}
+		long now = System.nanoTime();
+		endActiveFrame(now);
+		endActiveHandle(now);
+		activeHandle = handle;
+		handleActivatedAt = now;
+	}
+
+	/**
+	 * Marks the frame as active
+	 *
+	 * @param framePath is the path to the frame
+	 */
+	public synchronized void setActiveFrame(Object framePath) {
+		if (recorder == null) {
+			return;
+		}
+		String frame = String.valueOf(framePath);
+		if (frame.equals(activeFrame)) {
+			return;
+		}
+		long now = System.nanoTime();
+		endActiveFrame(now);
+		activeFrame = frame;
+		frameActivatedAt = now;
+	}
+
+	private void endActiveHandle(long now) {
+		if (activeHandle != null) {
+			writeSpan(HANDLE_ROW, handleActivatedAt, now, "handle",
+					activeHandle, null);
+			activeHandle = null;
+		}
+	}
+
+	private void endActiveFrame(long now) {
+		if (activeFrame != null) {
+			writeSpan(FRAME_ROW, frameActivatedAt, now, "frame", activeFrame,
+					null);
+			activeFrame = null;
+		}
+	}
+
+	/**
+	 * Finishes spans of the active window/context and frame and flushes
+	 * written events. It is invoked when the session is finished.
+	 */
+	public synchronized void close() {
+		if (recorder == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		endActiveFrame(now);
+		endActiveHandle(now);
+		recorder.flush();
+	}
+}
@@ -0,0 +1,170 @@
+package com.github.arachnidium.core.replay;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.JsonToBeanConverter;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Answers commands by responses which have been recorded by
+ * {@link SessionRecorder}. There is no browser and network.<br/>
+ * <br/>
+ * Responses of each command are given in recorded order. So the result
+ * doesn't depend on background commands (e.g. polling of window handles)
+ * which may be performed different number of times. When recorded responses
+ * of a command are over the last one is repeated. Each response is delayed by
+ * the recorded latency multiplied by the latency scale. Zero scale shows the
+ * pure overhead of the framework.<br/>
+ * <br/>
+ * {@link com.github.arachnidium.core.WebDriverEncapsulation} replays sessions
+ * instead of launching drivers when the <code>arachnidium.replay</code>
+ * system property is defined. It is the path of a recording or a directory
+ * with recordings. Recordings of the directory are given to sessions one by
+ * one in order of their names. The latency scale is defined by the
+ * <code>arachnidium.replay.latencyScale</code> system property (1 by
+ * default).
+ */
+public class ReplayCommandExecutor implements CommandExecutor {
+	public final static String REPLAY_PROPERTY = "arachnidium.replay";
+	public final static String LATENCY_SCALE_PROPERTY = "arachnidium.replay.latencyScale";
+	public final static boolean IS_ENABLED = System
+			.getProperty(REPLAY_PROPERTY) != null;
+
+	private static final AtomicInteger replayedCount = new AtomicInteger();
+
+	private static final class RecordedResponse {
+		private final long latencyNanos;
+		private final String sessionId;
+		private final int status;
+		private final Object value;
+		private final String error;
+
+		private RecordedResponse(Map<?, ?> record) {
+			latencyNanos = TimeUnit.MICROSECONDS.toNanos(((Number) record
+					.get(SessionRecorder.LATENCY)).longValue());
+			Object sessionId = record.get(SessionRecorder.SESSION_ID);
+			this.sessionId = sessionId == null ? null : sessionId.toString();
+			Object status = record.get(SessionRecorder.STATUS);
+			this.status = status == null ? 0 : ((Number) status).intValue();
+			value = record.get(SessionRecorder.VALUE);
+			error = (String) record.get(SessionRecorder.ERROR);
+		}
+	}
+
+	private final File recording;
+	private final double latencyScale;
+	// command name -> responses which haven't been given yet
+	private final Map<String, Deque<RecordedResponse>> responses = new HashMap<String, Deque<RecordedResponse>>();
+	private final Map<String, RecordedResponse> lastResponses = new HashMap<String, RecordedResponse>();
+
+	/**
+	 * @param recording is the file which has been written by
+	 *            {@link SessionRecorder}
+	 * @param latencyScale is the multiplier of recorded latencies
+	 */
+	public ReplayCommandExecutor(File recording, double latencyScale) {
+		this.recording = recording;
+		this.latencyScale = latencyScale;
+		JsonToBeanConverter converter = new JsonToBeanConverter();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new GZIPInputStream(new FileInputStream(recording)),
+				StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				Map<?, ?> record = converter.convert(Map.class, line);
+				String command = (String) record.get(SessionRecorder.COMMAND);
+				Deque<RecordedResponse> recorded = responses.get(command);
+				if (recorded == null) {
+					recorded = new ArrayDeque<RecordedResponse>();
+					responses.put(command, recorded);
+				}
+				recorded.add(new RecordedResponse(record));
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * @return the latency scale which is defined by the
+	 *         <code>arachnidium.replay.latencyScale</code> system property
+	 */
+	public static double getLatencyScale() {
+		return Double.parseDouble(System.getProperty(LATENCY_SCALE_PROPERTY,
+				"1"));
+	}
+
+	/**
+	 * @return the recording which should be replayed by the next session. It
+	 *         is defined by the <code>arachnidium.replay</code> system
+	 *         property
+	 */
+	public static File nextRecording() {
+		File path = new File(System.getProperty(REPLAY_PROPERTY));
+		if (!path.isDirectory()) {
+			return path;
+		}
+		File[] recordings = path.listFiles((dir, name) -> name
+				.endsWith(SessionRecorder.EXTENSION));
+		Arrays.sort(recordings);
+		int index = replayedCount.getAndIncrement();
+		if (index >= recordings.length) {
+			throw new RuntimeException("There are only " + recordings.length
+					+ " recorded sessions in " + path.getAbsolutePath());
+		}
+		return recordings[index];
+	}
+
+	private synchronized RecordedResponse take(String command) {
+		Deque<RecordedResponse> recorded = responses.get(command);
+		if (recorded != null && !recorded.isEmpty()) {
+			RecordedResponse result = recorded.poll();
+			lastResponses.put(command, result);
+			return result;
+		}
+		RecordedResponse last = lastResponses.get(command);
+		if (last == null) {
+			throw new WebDriverException("Command " + command
+					+ " hasn't been recorded in "
+					+ recording.getAbsolutePath());
+		}
+		return last;
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		RecordedResponse recorded = take(command.getName());
+		long latency = (long) (recorded.latencyNanos * latencyScale);
+		if (latency > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (recorded.error != null) {
+			throw new IOException(recorded.error);
+		}
+		Response response = new Response();
+		response.setSessionId(recorded.sessionId);
+		response.setStatus(recorded.status);
+		response.setValue(recorded.value);
+		return response;
+	}
+}
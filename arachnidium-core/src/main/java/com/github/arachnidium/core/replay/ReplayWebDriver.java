@@ -0,0 +1,47 @@
+package com.github.arachnidium.core.replay;
+
+import java.io.File;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * The {@link RemoteWebDriver} which replays the session recorded by
+ * {@link SessionRecorder}. Commands are answered by
+ * {@link ReplayCommandExecutor}.
+ */
+public class ReplayWebDriver extends RemoteWebDriver implements
+		TakesScreenshot {
+
+	/**
+	 * Recorded latencies are scaled by the
+	 * <code>arachnidium.replay.latencyScale</code> system property
+	 *
+	 * @param recording is the file which has been written by
+	 *            {@link SessionRecorder}
+	 */
+	public ReplayWebDriver(File recording) {
+		this(recording, ReplayCommandExecutor.getLatencyScale());
+	}
+
+	/**
+	 * @param recording is the file which has been written by
+	 *            {@link SessionRecorder}
+	 * @param latencyScale is the multiplier of recorded latencies
+	 */
+	public ReplayWebDriver(File recording, double latencyScale) {
+		super(new ReplayCommandExecutor(recording, latencyScale),
+				new DesiredCapabilities());
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target)
+			throws WebDriverException {
+		Object base64 = execute(DriverCommand.SCREENSHOT).getValue();
+		return target.convertFromBase64Png(String.valueOf(base64));
+	}
+}
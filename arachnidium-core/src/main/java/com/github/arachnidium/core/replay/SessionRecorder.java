@@ -0,0 +1,195 @@
+package com.github.arachnidium.core.replay;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.BeanToJsonConverter;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Records remote commands of a session and their responses. The recording
+ * can be replayed by {@link ReplayWebDriver} without any browser.<br/>
+ * <br/>
+ * It is turned on by the <code>arachnidium.recording</code> system property
+ * which is the path of a directory. Each session is recorded to the new file
+ * <code>session-&lt;number&gt;.jsonl.gz</code> there. Numbers are given in
+ * order of session creation. The file contains one JSON object per command:
+ * the name of the command, the latency, the session id, the status and the
+ * value of the response. Parameters of commands are not recorded.<br/>
+ * <br/>
+ * If the file can't be written then the warning is logged and the recording
+ * is stopped.
+ */
+public final class SessionRecorder {
+	public final static String RECORDING_PROPERTY = "arachnidium.recording";
+	public final static boolean IS_ENABLED = System
+			.getProperty(RECORDING_PROPERTY) != null;
+
+	/**
+	 * The recorder which does nothing
+	 */
+	public static final SessionRecorder DISABLED = new SessionRecorder(null,
+			null);
+
+	static final String EXTENSION = ".jsonl.gz";
+	static final String COMMAND = "command";
+	static final String LATENCY = "latency";
+	static final String SESSION_ID = "sessionId";
+	static final String STATUS = "status";
+	static final String VALUE = "value";
+	static final String ERROR = "error";
+
+	private static final AtomicInteger sessionCount = new AtomicInteger();
+
+	private final File file;
+	private final BeanToJsonConverter converter = new BeanToJsonConverter();
+	private Writer writer;
+	private boolean isSessionRecorded;
+
+	private SessionRecorder(File file, Writer writer) {
+		this.file = file;
+		this.writer = writer;
+	}
+
+	/**
+	 * @return a new {@link SessionRecorder} or {@link #DISABLED} if
+	 *         recording is turned off
+	 */
+	public static SessionRecorder newRecorder() {
+		if (!IS_ENABLED) {
+			return DISABLED;
+		}
+		File directory = new File(System.getProperty(RECORDING_PROPERTY));
+		File file = new File(directory, String.format("session-%04d",
+				sessionCount.incrementAndGet()) + EXTENSION);
+		try {
+			directory.mkdirs();
+			Writer writer = new BufferedWriter(new OutputStreamWriter(
+					new GZIPOutputStream(new FileOutputStream(file)),
+					StandardCharsets.UTF_8));
+			Log.message("Commands of the session are recorded to "
+					+ file.getAbsolutePath());
+			return new SessionRecorder(file, writer);
+		} catch (IOException e) {
+			Log.warning("Commands can't be recorded to "
+					+ file.getAbsolutePath(), e);
+			return DISABLED;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if commands are recorded
+	 */
+	public boolean isEnabled() {
+		return file != null;
+	}
+
+	/**
+	 * @return the file of the recording. It is <code>null</code> if
+	 *         recording is turned off
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	private void write(Map<String, Object> record) {
+		try {
+			writer.write(converter.convert(record));
+			writer.write('\n');
+		} catch (IOException | RuntimeException e) {
+			Log.warning("Commands can't be recorded to "
+					+ file.getAbsolutePath() + ". Recording is stopped", e);
+			try {
+				writer.close();
+			} catch (IOException ignored) {
+			}
+			writer = null;
+		}
+	}
+
+	/**
+	 * Records the performed command
+	 *
+	 * @param command is the performed {@link Command}
+	 * @param response is the received {@link Response}. It is
+	 *            <code>null</code> if the command has failed
+	 * @param thrown is the exception which has been thrown instead of the
+	 *            response
+	 * @param latencyNanos is the time which the command took
+	 */
+	public synchronized void record(Command command, Response response,
+			Exception thrown, long latencyNanos) {
+		if (writer == null) {
+			return;
+		}
+		Map<String, Object> record = new HashMap<String, Object>();
+		record.put(COMMAND, command.getName());
+		record.put(LATENCY, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+		if (response != null) {
+			record.put(SESSION_ID, response.getSessionId());
+			record.put(STATUS, response.getStatus());
+			record.put(VALUE, response.getValue());
+		} else {
+			record.put(ERROR, String.valueOf(thrown));
+		}
+		isSessionRecorded = isSessionRecorded
+				|| DriverCommand.NEW_SESSION.equals(command.getName());
+		write(record);
+	}
+
+	/**
+	 * Records the new session command if it has been performed before
+	 * commands were recorded. E.g. some drivers create their command
+	 * executors and start sessions in constructors.
+	 *
+	 * @param sessionId is the id of the session
+	 * @param capabilities are {@link Capabilities} of the session
+	 */
+	public synchronized void recordSession(SessionId sessionId,
+			Capabilities capabilities) {
+		if (writer == null || isSessionRecorded) {
+			return;
+		}
+		Map<String, Object> record = new HashMap<String, Object>();
+		record.put(COMMAND, DriverCommand.NEW_SESSION);
+		record.put(LATENCY, 0L);
+		record.put(SESSION_ID, String.valueOf(sessionId));
+		record.put(STATUS, ErrorCodes.SUCCESS);
+		record.put(VALUE, capabilities.asMap());
+		isSessionRecorded = true;
+		write(record);
+	}
+
+	/**
+	 * Finishes the recording. It is invoked when the session quits
+	 */
+	public synchronized void close() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.close();
+		} catch (IOException e) {
+			Log.warning("Recording " + file.getAbsolutePath()
+					+ " hasn't been finished properly", e);
+		}
+		writer = null;
+	}
+}
@@ -0,0 +1,157 @@
+package com.github.arachnidium.core.services;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.net.UrlChecker;
+import org.openqa.selenium.remote.service.DriverService;
+
+import com.github.arachnidium.core.SessionRegistry;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * The pool of local {@link DriverService} instances (chromedriver, phantomjs)
+ * which are shared by sessions. Otherwise each session starts its own driver
+ * server process.<br/>
+ * <br/>
+ * The pool of the service is created when the first session requires it. All
+ * its services are started at once and they are kept alive until the JVM
+ * exits. They are stopped by the shutdown hook of {@link SessionRegistry}
+ * when live sessions are quit. Sessions are distributed between services one by one. The service
+ * is checked before it is given to a session: its process should be alive
+ * and it should respond to the <code>/status</code> request. Otherwise it is
+ * restarted.<br/>
+ * <br/>
+ * The pooling is turned on by the <code>arachnidium.services.poolSize</code>
+ * system property. It is the count of services of each kind. Sessions of
+ * {@link com.github.arachnidium.core.settings.supported.ESupportedDrivers}
+ * which have shareable services (see {@link EServices#isShareable()}) are
+ * created by {@link PooledServiceWebDriver} then.
+ */
+public final class DriverServicePool {
+	public final static String POOL_SIZE_PROPERTY = "arachnidium.services.poolSize";
+	public final static int POOL_SIZE = Integer.getInteger(POOL_SIZE_PROPERTY, 0);
+	public final static boolean IS_ENABLED = POOL_SIZE > 0;
+	private final static long STATUS_TIMEOUT = 2;
+
+	private static final Map<EServices, DriverServicePool> pools = new EnumMap<EServices, DriverServicePool>(
+			EServices.class);
+
+	private final EServices service;
+	private final DriverService[] services;
+	private final AtomicInteger nextService = new AtomicInteger();
+
+	private DriverServicePool(EServices service, int size) {
+		this.service = service;
+		services = new DriverService[size];
+		for (int i = 0; i < size; i++) {
+			services[i] = start();
+		}
+		Log.message(size + " service(s) of " + service.toString()
+				+ " have been started");
+	}
+
+	/**
+	 * Returns the pool of the given service. It is created and its services
+	 * are started by the first call. The system property of the service
+	 * should be set (see {@link EServices#setSystemProperty(com.github.arachnidium.util.configuration.Configuration)})
+	 *
+	 * @param service is the shareable service
+	 * @return the pool of the service
+	 */
+	public static DriverServicePool getPool(EServices service) {
+		synchronized (pools) {
+			DriverServicePool pool = pools.get(service);
+			if (pool == null) {
+				pool = new DriverServicePool(service, Math.max(1, POOL_SIZE));
+				pools.put(service, pool);
+				// services are stopped after sessions are quit
+				SessionRegistry.addShutdownHook();
+			}
+			return pool;
+		}
+	}
+
+	/**
+	 * Stops services of all pools
+	 */
+	public static void stopAll() {
+		synchronized (pools) {
+			pools.values().forEach(DriverServicePool::stop);
+			pools.clear();
+		}
+	}
+
+	private DriverService start() {
+		DriverService driverService = service.createService();
+		try {
+			driverService.start();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return driverService;
+	}
+
+	private static boolean isHealthy(DriverService driverService) {
+		if (!driverService.isRunning()) {
+			return false;
+		}
+		String url = driverService.getUrl().toString();
+		try {
+			new UrlChecker().waitUntilAvailable(STATUS_TIMEOUT,
+					TimeUnit.SECONDS, new URL(url
+							+ (url.endsWith("/") ? "" : "/") + "status"));
+			return true;
+		} catch (UrlChecker.TimeoutException | MalformedURLException e) {
+			return false;
+		}
+	}
+
+	private synchronized DriverService getHealthy(int index) {
+		DriverService driverService = services[index];
+		if (isHealthy(driverService)) {
+			return driverService;
+		}
+		Log.warning("Service of " + service.toString() + " at "
+				+ driverService.getUrl() + " doesn't respond. It is restarted");
+		try {
+			driverService.stop();
+		} catch (RuntimeException e) { // it may be already dead
+		}
+		services[index] = start();
+		return services[index];
+	}
+
+	/**
+	 * @return URL of the next healthy service. A new session should be
+	 *         created there
+	 */
+	public URL getUrl() {
+		int index = Math.floorMod(nextService.getAndIncrement(),
+				services.length);
+		return getHealthy(index).getUrl();
+	}
+
+	/**
+	 * @return count of services
+	 */
+	public int size() {
+		return services.length;
+	}
+
+	private synchronized void stop() {
+		for (DriverService driverService : services) {
+			try {
+				driverService.stop();
+			} catch (RuntimeException e) {
+				Log.warning("Service of " + service.toString() + " at "
+						+ driverService.getUrl() + " can't be stopped", e);
+			}
+		}
+	}
+}
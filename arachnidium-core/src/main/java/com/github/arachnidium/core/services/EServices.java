@@ -4,6 +4,7 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
 import com.github.arachnidium.util.configuration.Configuration;
@@ -19,7 +20,9 @@ import com.github.arachnidium.core.settings.IEDriverServerBin;
 import com.github.arachnidium.core.settings.PhantomJSDriverBin;
 
 /**
- * Sets system properties of required {@link DriverService}
+ * Sets system properties of required {@link DriverService}.<br/>
+ * Services which can serve many sessions at the same time can be pooled by
+ * {@link DriverServicePool}
  */
 public enum EServices {
 	/**
@@ -35,7 +38,7 @@ public enum EServices {
 			put(Platform.LINUX, "chromedriver");
 		}
 
-	}),
+	}, ChromeDriverService::createDefaultService),
 	/**
 	 * {@link InternetExplorerDriverService}
 	 */
@@ -47,7 +50,7 @@ public enum EServices {
 			put(Platform.WINDOWS, "IEDriverServer.exe");
 		}
 
-	}), 
+	}, null), // IEDriverServer serves one session at a time
 	/**
 	 * {@link PhantomJSDriverService}
 	 */
@@ -61,20 +64,45 @@ public enum EServices {
 			put(Platform.LINUX, "phantomjs");
 		}
 
-	});
+	}, PhantomJSDriverService::createDefaultService);
 
 	private static final String defaultFolder = "";
 	private final String propertyName;
 	private final Class<? extends AbstractConfigurationAccessHelper> clazzOfSettings;
 	private final HashMap<Platform, String> defaultServerFileAccordance;
+	private final Supplier<? extends DriverService> serviceFactory;
 
 	private EServices(
 			Class<? extends AbstractConfigurationAccessHelper> classOfSetting,
 			String propertyName,
-			HashMap<Platform, String> defaultServerFileAccordance) {
+			HashMap<Platform, String> defaultServerFileAccordance,
+			Supplier<? extends DriverService> serviceFactory) {
 		this.clazzOfSettings = classOfSetting;
 		this.defaultServerFileAccordance = defaultServerFileAccordance;
 		this.propertyName = propertyName;
+		this.serviceFactory = serviceFactory;
+	}
+
+	/**
+	 * @return flag of possibility to serve many sessions by the same 
+	 * {@link DriverService}
+	 */
+	public boolean isShareable() {
+		return serviceFactory != null;
+	}
+
+	/**
+	 * Creates the {@link DriverService} which is not started yet. The 
+	 * system property should be set (see {@link #setSystemProperty(Configuration)})
+	 * 
+	 * @return a new {@link DriverService}
+	 */
+	DriverService createService() {
+		if (serviceFactory == null) {
+			throw new UnsupportedOperationException(this.toString()
+					+ " can't be shared by many sessions");
+		}
+		return serviceFactory.get();
 	}
 
 	/**
@@ -0,0 +1,36 @@
+package com.github.arachnidium.core.services;
+
+import java.net.URL;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * The {@link RemoteWebDriver} which is started by a pooled service (see
+ * {@link DriverServicePool}). Unlike
+ * {@link org.openqa.selenium.chrome.ChromeDriver} or
+ * {@link org.openqa.selenium.phantomjs.PhantomJSDriver} its quit doesn't stop
+ * the service.
+ */
+public class PooledServiceWebDriver extends RemoteWebDriver implements
+		TakesScreenshot {
+
+	/**
+	 * @param serviceUrl is the URL of the pooled service
+	 * @param capabilities are desired {@link Capabilities}
+	 */
+	public PooledServiceWebDriver(URL serviceUrl, Capabilities capabilities) {
+		super(serviceUrl, capabilities);
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target)
+			throws WebDriverException {
+		Object base64 = execute(DriverCommand.SCREENSHOT).getValue();
+		return target.convertFromBase64Png(String.valueOf(base64));
+	}
+}
@@ -0,0 +1,89 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+import org.openqa.selenium.WebDriver.Window;
+
+/**
+ * Stores settings of the event-driven {@link Window} detection.<br/>
+ * If it is turned on then the single background watcher 
+ * compares sets of window handles and wakes up everything 
+ * that is waiting for a new window. The watcher polls fast 
+ * just after something has changed and slows down when 
+ * nothing happens.<br/>
+ * <br/>
+ * Specification:<br/>
+ * 
+ * <p><br/>
+ * ...<br/>
+ *"windowWatching":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"isEventDriven":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>           
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"fastPollingInterval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"milliseconds"<br/>           
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"idlePollingInterval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"milliseconds"<br/>           
+ *&nbsp;&nbsp;}<br/>              
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "windowWatching")
+public class WindowWatching extends AbstractConfigurationAccessHelper {
+	private final static long DEFAULT_FAST_INTERVAL = 100;  // milliseconds
+	private final static long DEFAULT_IDLE_INTERVAL = 1000; // milliseconds
+
+	protected WindowWatching(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return <code>true</code> if new windows should be detected
+	 * by the background watcher. Default value is <code>false</code>
+	 */
+	@Setting(setting = "isEventDriven")
+	public Boolean isEventDriven() {
+		Boolean value = getSetting();
+		if (value == null) {
+			return false;
+		}
+		return value;
+	}
+
+	/**
+	 * @return The polling interval (milliseconds) which is used
+	 * just after the set of windows has been changed or some
+	 * action has been performed
+	 */
+	@Setting(setting = "fastPollingInterval")
+	public Long getFastPollingInterval() {
+		Long value = getSetting();
+		if (value == null) {
+			return DEFAULT_FAST_INTERVAL;
+		}
+		return value;
+	}
+
+	/**
+	 * @return The polling interval (milliseconds) which is used
+	 * when nothing happens
+	 */
+	@Setting(setting = "idlePollingInterval")
+	public Long getIdlePollingInterval() {
+		Long value = getSetting();
+		if (value == null) {
+			return DEFAULT_IDLE_INTERVAL;
+		}
+		return value;
+	}
+}
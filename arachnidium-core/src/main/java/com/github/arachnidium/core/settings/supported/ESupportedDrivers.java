@@ -21,6 +21,7 @@ import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.server.SeleniumServer;
 
+import com.github.arachnidium.core.services.DriverServicePool;
 import com.github.arachnidium.core.services.EServices;
 import com.github.arachnidium.core.services.RemoteSeleniumServerLauncher;
 import com.github.arachnidium.core.services.interfaces.ILocalServerLauncher;
@@ -325,6 +326,19 @@ public enum ESupportedDrivers {
 		}
 	}
 
+	/**
+	 * @return URL of the pooled {@link DriverService} where a new session
+	 *         should be started. It is <code>null</code> when services are
+	 *         not pooled (see {@link DriverServicePool}) or the driver has no
+	 *         shareable service
+	 */
+	public URL getPooledServiceURL() {
+		if (!DriverServicePool.IS_ENABLED || service == null
+				|| !service.isShareable())
+			return null;
+		return DriverServicePool.getPool(service).getUrl();
+	}
+
 	/**
 	 * @return flag of necessity of URL (remote server)
 	 */
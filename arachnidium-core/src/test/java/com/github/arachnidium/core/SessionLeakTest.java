@@ -0,0 +1,101 @@
+package com.github.arachnidium.core;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.Response;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+
+public class SessionLeakTest {
+
+  private static final int SESSIONS = 3;
+
+  // the remote end with one window. Other commands return nothing
+  private static class FakeExecutor implements CommandExecutor {
+	  private static final AtomicInteger sessionCount = new AtomicInteger();
+
+	  @Override
+	  public Response execute(Command command) throws IOException {
+		  Response response = new Response();
+		  response.setStatus(ErrorCodes.SUCCESS);
+		  switch (command.getName()) {
+		  case DriverCommand.NEW_SESSION:
+			  Map<String, Object> capabilities = new HashMap<String, Object>();
+			  capabilities.put("browserName", "fake");
+			  response.setSessionId("fake-session-"
+					  + sessionCount.incrementAndGet());
+			  response.setValue(capabilities);
+			  return response;
+		  case DriverCommand.GET_WINDOW_HANDLES:
+			  response.setValue(new ArrayList<String>(Arrays
+					  .asList("fake-window")));
+			  break;
+		  case DriverCommand.GET_CURRENT_WINDOW_HANDLE:
+			  response.setValue("fake-window");
+			  break;
+		  default:
+			  break;
+		  }
+		  response.setSessionId(String.valueOf(command.getSessionId()));
+		  return response;
+	  }
+  }
+
+  private static void openAndDestroy(List<WeakReference<?>> references) {
+	  WebDriverEncapsulation session = new WebDriverEncapsulation(
+			  ESupportedDrivers.REMOTE, new FakeExecutor(),
+			  DesiredCapabilities.firefox());
+	  WindowManager manager = new WindowManager(session);
+	  references.add(new WeakReference<Object>(session));
+	  references.add(new WeakReference<Object>(session.context));
+	  references.add(new WeakReference<Object>(manager));
+	  session.destroy();
+  }
+
+  // The class cache of Spring CGLIB keeps the configuration of the first proxy
+  // of each class. So the first session of the JVM is retained. It is not
+  // checked.
+  @Test
+  public void destroyedSessionsAreCollected() throws InterruptedException {
+	  openAndDestroy(new ArrayList<WeakReference<?>>());
+	  int liveSessions = SessionRegistry.size();
+	  List<WeakReference<?>> references = new ArrayList<WeakReference<?>>();
+	  for (int i = 0; i < SESSIONS; i++) {
+		  openAndDestroy(references);
+	  }
+	  Assert.assertEquals(liveSessions, SessionRegistry.size());
+
+	  for (int i = 0; i < 50 && !isEverythingCollected(references); i++) {
+		  System.gc();
+		  Thread.sleep(100);
+	  }
+	  for (WeakReference<?> reference : references) {
+		  Assert.assertNull("It hasn't been collected: " + reference.get(),
+				  reference.get());
+	  }
+  }
+
+  private static boolean isEverythingCollected(
+		  List<WeakReference<?>> references) {
+	  for (WeakReference<?> reference : references) {
+		  if (reference.get() != null) {
+			  return false;
+		  }
+	  }
+	  return true;
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.arachnidium.core.bean;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.fluenthandle.ContextCache;
+
+public class ContextCacheUpdateTest {
+
+  private static ContextCache snapshotted() {
+	  ContextCache contextCache = new ContextCache();
+	  contextCache.activityIs("NATIVE_APP", ".MainActivity");
+	  return contextCache;
+  }
+
+  @Test
+  public void getOfUrlInvalidatesSnapshot() {
+	  ContextCache contextCache = snapshotted();
+	  AspectWebDriverEventListener.updateContextCache(contextCache, "get",
+			  new Object[] { "http://localhost/page" });
+	  Assert.assertTrue(contextCache.getActivitySnapshot().isEmpty());
+  }
+
+  @Test
+  public void navigationInvalidatesSnapshot() {
+	  ContextCache contextCache = snapshotted();
+	  AspectWebDriverEventListener.updateContextCache(contextCache, "to",
+			  new Object[] { "http://localhost/page" });
+	  Assert.assertTrue(contextCache.getActivitySnapshot().isEmpty());
+
+	  contextCache = snapshotted();
+	  AspectWebDriverEventListener.updateContextCache(contextCache, "click",
+			  new Object[] {});
+	  Assert.assertTrue(contextCache.getActivitySnapshot().isEmpty());
+  }
+
+  @Test
+  public void readOnlyMethodsKeepSnapshot() {
+	  ContextCache contextCache = snapshotted();
+	  AspectWebDriverEventListener.updateContextCache(contextCache,
+			  "getCurrentUrl", new Object[] {});
+	  AspectWebDriverEventListener.updateContextCache(contextCache,
+			  "findElement", new Object[] { null });
+	  AspectWebDriverEventListener.updateContextCache(contextCache,
+			  "isDisplayed", new Object[] {});
+	  Assert.assertEquals(".MainActivity", contextCache.getActivitySnapshot()
+			  .get("NATIVE_APP"));
+  }
+
+  @Test
+  public void switchesAreRecorded() {
+	  ContextCache contextCache = snapshotted();
+	  AspectWebDriverEventListener.updateContextCache(contextCache,
+			  "context", new Object[] { "WEBVIEW_1" });
+	  Assert.assertEquals(".MainActivity", contextCache.getActivitySnapshot()
+			  .get("NATIVE_APP"));
+  }
+}
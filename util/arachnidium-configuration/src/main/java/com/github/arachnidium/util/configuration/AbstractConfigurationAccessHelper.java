@@ -4,6 +4,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Subclasses of this should make access to
@@ -23,8 +25,7 @@ public abstract class AbstractConfigurationAccessHelper{
 		String setting();
 	}
 
-	private final Configuration configuration;
-	private final String DESIRED_GROUP;
+	private final Map<String, Object> group;
 
 	/**
 	 * This constructor should present in subclass
@@ -35,8 +36,10 @@ public abstract class AbstractConfigurationAccessHelper{
 	protected AbstractConfigurationAccessHelper(Configuration configuration, 
 			String desiredSettingGroup) {
 		super();
-		this.configuration = configuration;
-		this.DESIRED_GROUP = desiredSettingGroup;
+		Map<String, Object> group = configuration.getSnapshot().getGroup(
+				desiredSettingGroup);
+		this.group = group == null ? Collections.<String, Object> emptyMap()
+				: group;
 	}
 
 	/**
@@ -45,8 +48,9 @@ public abstract class AbstractConfigurationAccessHelper{
 	 * @param settingName It is desired setting name
 	 * @return a value of the desired setting
 	 */
+	@SuppressWarnings("unchecked")
 	protected final <T extends Object> T getSettingValue(String settingName) {
-		return configuration.getSettingValue(DESIRED_GROUP, settingName);
+		return (T) group.get(settingName);
 	}
 	
 	/**
@@ -20,17 +20,24 @@
  */
 package com.github.arachnidium.util.configuration;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FilenameFilter;
-import java.util.HashMap;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
 
-import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.Enhancer;
 
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 
 /**
  * Stores settings read from JSON file.
@@ -51,104 +58,248 @@ import org.json.simple.parser.JSONParser;
  * ...<br/> 
  * }<br/>
  * </p> 
+ * 
+ * Settings can be re-read by {@link #reload()} or automatically when 
+ * the file is changed (see {@link #watch()}). Each reloading publishes 
+ * a new {@link ConfigurationSnapshot}. {@link IConfigurable} subscribers 
+ * (see {@link #subscribe(IConfigurable, Class...)}) are notified only
+ * when groups they are interested in have been changed. 
  */
 public class Configuration {
-	public static Configuration get(String filePath) {
-		Callback interceptor = new ConfigurationInterceptor();
+	/**
+	 * If this system property is "true" then {@link #byDefault} is watched
+	 * and reloaded when the file is changed
+	 */
+	public static final String WATCH_DEFAULT_PROPERTY = "arachnidium.settings.watch";
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setCallback(interceptor);
-		enhancer.setSuperclass(Configuration.class);
+	// configurations which are layered over byDefault
+	private static final Set<Configuration> layeredOverDefault = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<Configuration, Boolean>()));
 
-		return (Configuration) enhancer.create(new Class[] { String.class },
-				new Object[] { filePath });
+	/**
+	 * @param filePath is the path to JSON file
+	 * @return {@link Configuration} which is read from the given file. 
+	 * Values of {@link #byDefault} are used when there are no values in the
+	 * given file
+	 */
+	public static Configuration get(String filePath) {
+		return new Configuration(filePath);
 	}
 
-	private static String getPathToDefault(String startPath) {
-		// attempt to find configuration in the specified directory
-		File defaultConfig = new File(startPath);
-		File list[] = defaultConfig
-				.listFiles((FilenameFilter) (dir, name) -> name
-						.endsWith(commonFileName));
+	/**
+	 * The default settings that are read 
+	 * from <code>settings.json</code>. The file is defined by 
+	 * the <code>arachnidium.settings</code> system property or 
+	 * the <code>ARACHNIDIUM_SETTINGS</code> environment variable. 
+	 * Otherwise it is found on the classpath or in the working folder 
+	 * and subfolders.
+	 * 
+	 * @see DefaultSettingsLocator
+	 */
+	public final static Configuration byDefault = get(DefaultSettingsLocator.locate("."));
+	
+	static {
+		if (Boolean.getBoolean(WATCH_DEFAULT_PROPERTY)) {
+			byDefault.watch();
+		}
+	}
 
-		if (list.length > 0)
-			return list[0].getPath();
+	/**
+	 * The published snapshot and helpers which are bound to it.
+	 * They are replaced together when settings are reloaded.
+	 */
+	private static final class Published {
+		private final ConfigurationSnapshot snapshot;
+		private final Map<Class<? extends AbstractConfigurationAccessHelper>, AbstractConfigurationAccessHelper> initedHelpers = new ConcurrentHashMap<>();
 
-		if (list.length == 0) {
-			File inner[] = defaultConfig.listFiles();
-			String result = null;
-			for (File element : inner) {
-				if (element.isDirectory())
-					result = getPathToDefault(element.getPath());
-				if (result != null)
-					return result;
-			}
+		private Published(ConfigurationSnapshot snapshot) {
+			this.snapshot = snapshot;
 		}
-		return null;
 	}
 
-	private final static String commonFileName = "settings.json"; // default
-																	// settings
 	/**
-	 * The default settings that are read 
-	 * from <code>settings.json</code> located 
-	 * in <code>.classPath</code> folder or subfolders
+	 * {@link IConfigurable} and names of groups it is interested in.
+	 * Empty set means all groups.
 	 */
-	public final static Configuration byDefault = get(getPathToDefault("."));
+	private static final class Subscription {
+		private final IConfigurable subscriber;
+		private final Set<String> groups;
 
-	private static final String typeTag = "type";
-	private static final String requiredClassTag = "class";
-	private static final String valueTag = "value";
+		private Subscription(IConfigurable subscriber, Set<String> groups) {
+			this.subscriber = subscriber;
+			this.groups = groups;
+		}
 
-	private final HashMap<String, HashMap<String, Object>> mappedSettings = new HashMap<String, HashMap<String, Object>>();
+		private boolean isInterestedIn(Set<String> changedGroups) {
+			if (groups.isEmpty()) {
+				return true;
+			}
+			for (String group : changedGroups) {
+				if (groups.contains(group)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
 
-	private final HashMap<Class<? extends AbstractConfigurationAccessHelper>, AbstractConfigurationAccessHelper> initedHelpers = new HashMap<>();
+	private final String filePath;
+	// parsed values without defaults
+	private ConfigurationSnapshot ownSnapshot;
+	private volatile Published published;
+	private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<Subscription>();
+	private boolean isWatched;
 
 	protected Configuration(String filePath) {
 		super();
-		parseSettings(String.valueOf(filePath));
+		this.filePath = String.valueOf(filePath);
+		ownSnapshot = parseSettings(this.filePath);
+		// byDefault is null while it is being created
+		if (byDefault == null) {
+			published = new Published(ownSnapshot);
+		} else {
+			published = new Published(ownSnapshot.layeredOver(byDefault
+					.getSnapshot()));
+			layeredOverDefault.add(this);
+		}
 	}
-
+	
 	/**
-	 *  parsing of each one setting
+	 * Re-reads the JSON file and publishes a new {@link ConfigurationSnapshot} 
+	 * if some values have been changed. Subscribers which are interested in 
+	 * changed groups are notified after that. If this is {@link #byDefault} 
+	 * then all other configurations are re-layered over new default values.
+	 * 
+	 * @throws RuntimeException if the file can't be parsed. Previous values are kept
+	 * in this case
 	 */
-	private HashMap<String, Object> getParsedGroup(JSONObject jsonObject) {
-		HashMap<String, Object> result = new HashMap<>();
-		@SuppressWarnings("unchecked")
-		Set<String> keys = jsonObject.keySet();
+	public void reload() {
+		Object event = FlightRecorderEvents.beginReload();
+		Set<String> changedGroups = Collections.emptySet();
+		try {
+			ConfigurationSnapshot parsed = parseSettings(filePath);
+			synchronized (this) {
+				ownSnapshot = parsed;
+				changedGroups = republish();
+			}
+			notifySubscribers(changedGroups);
+			if (this != byDefault || changedGroups.isEmpty()) {
+				return;
+			}
+			Configuration[] dependents;
+			synchronized (layeredOverDefault) {
+				dependents = layeredOverDefault.toArray(new Configuration[] {});
+			}
+			for (Configuration dependent : dependents) {
+				Set<String> changed;
+				synchronized (dependent) {
+					changed = dependent.republish();
+				}
+				dependent.notifySubscribers(changed);
+			}
+		} finally {
+			FlightRecorderEvents.endReload(event, filePath,
+					changedGroups.size());
+		}
+	}
 
-		keys.forEach((key) -> {
-			JSONObject value = (JSONObject) jsonObject.get(key);
-			String type = (String) value.get(typeTag);
+	// should be invoked under the lock of this
+	private Set<String> republish() {
+		ConfigurationSnapshot current = published.snapshot;
+		ConfigurationSnapshot merged = this == byDefault ? ownSnapshot
+				: ownSnapshot.layeredOver(byDefault.getSnapshot());
+		Set<String> changedGroups = current.getChangedGroups(merged);
+		if (!changedGroups.isEmpty()) {
+			published = new Published(merged.withVersion(current
+					.getVersion() + 1));
+		}
+		return changedGroups;
+	}
 
-			EAvailableDataTypes requiredType = null;
-			try {
-				requiredType = EAvailableDataTypes.valueOf(type);
-			} catch (IllegalArgumentException | NullPointerException e) {
-				throw new RuntimeException(
-						"Type specification that is not supported! Specification is "
-								+ String.valueOf(type)
-								+ ". "
-								+ " STRING, BOOL, LONG, FLOAT, INT, ENUM are suppurted. Setting name is "
-								+ key, e);
+	private void notifySubscribers(Set<String> changedGroups) {
+		if (changedGroups.isEmpty()) {
+			return;
+		}
+		for (Subscription subscription : subscriptions) {
+			if (subscription.isInterestedIn(changedGroups)) {
+				subscription.subscriber.resetAccordingTo(this);
 			}
-			
-			String className   =  (String) value.get(requiredClassTag);
-			Object returnValue = null;
-			String strValue = (String) value.get(valueTag);
+		}
+	}
 
-			if ("".equals(strValue) || strValue == null)
-				result.put(key, returnValue);
-			else
-				if ("".equals(className) || className == null) {
-					result.put(key, requiredType.getValue(String.valueOf(strValue)));
-				}else{
-					result.put(key, requiredType.getValue(String.valueOf(className), 
-							String.valueOf(strValue)));
-				}
-					
+	/**
+	 * Subscribes the given {@link IConfigurable} to changes of settings.
+	 * If it has been subscribed already then the previous subscription is 
+	 * replaced.
+	 * 
+	 * @param subscriber is something that implements {@link IConfigurable}. 
+	 * Its {@link IConfigurable#resetAccordingTo(Configuration)} is invoked with 
+	 * this configuration after reloading. It may be invoked by another thread.
+	 * @param sections are classes of helpers. They should be annotated by 
+	 * {@link Group}. The subscriber is notified only when these groups are 
+	 * changed. It is notified on any change if there are no sections.
+	 */
+	@SafeVarargs
+	public final void subscribe(IConfigurable subscriber,
+			Class<? extends AbstractConfigurationAccessHelper>... sections) {
+		Set<String> groups = new HashSet<String>();
+		Arrays.asList(sections).forEach((section) -> {
+			if (!section.isAnnotationPresent(Group.class)) {
+				throw new IllegalArgumentException("Required class "
+						+ section.getName() + " should be annotated by "
+						+ " @Group annotation!");
+			}
+			groups.add(section.getAnnotation(Group.class).settingGroup());
 		});
-		return result;
+		synchronized (subscriptions) {
+			unsubscribe(subscriber);
+			subscriptions.add(new Subscription(subscriber, Collections
+					.unmodifiableSet(groups)));
+		}
+	}
+
+	/**
+	 * @param subscriber which is not interested in changes anymore
+	 */
+	public void unsubscribe(IConfigurable subscriber) {
+		synchronized (subscriptions) {
+			subscriptions.removeIf((subscription) -> subscription.subscriber == subscriber);
+		}
+	}
+
+	/**
+	 * Starts watching of the JSON file. Settings are reloaded
+	 * when the file is changed.
+	 * 
+	 * @return this configuration
+	 */
+	public synchronized Configuration watch() {
+		if (isWatched) {
+			return this;
+		}
+		Path file = getWatchedPath();
+		if (file.getParent() == null || !file.getParent().toFile().isDirectory()) {
+			throw new IllegalStateException("Folder of the file " + filePath
+					+ " doesn't exist. It can't be watched.");
+		}
+		ConfigurationWatcher.getInstance().add(file, this);
+		isWatched = true;
+		return this;
+	}
+
+	/**
+	 * Stops watching of the JSON file.
+	 */
+	public synchronized void stopWatching() {
+		if (!isWatched) {
+			return;
+		}
+		ConfigurationWatcher.getInstance().remove(getWatchedPath(), this);
+		isWatched = false;
+	}
+
+	private Path getWatchedPath() {
+		return new File(filePath).getAbsoluteFile().toPath().normalize();
 	}
 
 	/**
@@ -165,33 +316,43 @@ public class Configuration {
 	 * Also, required class should be annotated by {@link Group} annotation. {@link IllegalArgumentException} 
 	 * is thrown otherwise.      
 	 *               
+	 * Helpers are bound to the current {@link ConfigurationSnapshot}. So 
+	 * another helper is returned after settings are reloaded.
+	 *               
      * @param requiredClass that extends {@link AbstractConfigurationAccessHelper} 
 	 * @return instance of class specified by <code>requiredClass</code> parameter
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends AbstractConfigurationAccessHelper> T getSection(
 			Class<T> requiredClass) throws IllegalArgumentException {
-		T helper = (T) initedHelpers.get(requiredClass);
-		if (helper != null)
-			return helper;
-		
-		Callback interceptor = new HelperInterceptor();
-
-		Enhancer enhancer = new Enhancer();
-		enhancer.setCallback(interceptor);
-		enhancer.setSuperclass(requiredClass);
+		while (true) {
+			Published current = published;
+			T helper = (T) current.initedHelpers.get(requiredClass);
+			if (helper != null)
+				return helper;
+			
+			Enhancer enhancer = new Enhancer();
+			enhancer.setSuperclass(requiredClass);
 
-		T result = null;
-		if (requiredClass.isAnnotationPresent(Group.class)){
-			result = (T) enhancer.create(new Class[] {Configuration.class ,String.class},
-					new Object[] { this, requiredClass.getAnnotation(Group.class).settingGroup()});
-		}
-		else {
-			throw new IllegalArgumentException("Required class " + requiredClass.getClass().getName() + " should be annotated by "
-					+ " @Group annotation!");
+			T result = null;
+			if (requiredClass.isAnnotationPresent(Group.class)){
+				String group = requiredClass.getAnnotation(Group.class).settingGroup();
+				enhancer.setCallback(new HelperInterceptor(requiredClass,
+						current.snapshot.getGroup(group)));
+				result = (T) enhancer.create(new Class[] {Configuration.class ,String.class},
+						new Object[] { this, group});
+			}
+			else {
+				throw new IllegalArgumentException("Required class " + requiredClass.getClass().getName() + " should be annotated by "
+						+ " @Group annotation!");
+			}
+			if (current != published) // settings have been reloaded meanwhile
+				continue;
+			helper = (T) current.initedHelpers.putIfAbsent(requiredClass, result);
+			if (helper != null) // another thread has been faster
+				return helper;
+			return result;
 		}
-		initedHelpers.put(requiredClass, result);
-		return result;		
 	}
 
 	/**
@@ -213,11 +374,20 @@ public class Configuration {
 	 * </p> 
 	 * 
 	 * @param groupName is "settingGroupName".
-	 * @return Instance of HashMap<String, Object> where key is  "settingName1" and 
+	 * @return Unmodifiable instance of Map<String, Object> where key is  "settingName1" and 
 	 * value is "some value" cast to "Type you need"
 	 */
-	public HashMap<String, Object> getSettingGroup(String groupName) {
-		return mappedSettings.get(groupName);
+	public Map<String, Object> getSettingGroup(String groupName) {
+		return getSnapshot().getGroup(groupName);
+	}
+	
+	/**
+	 * @return the immutable {@link ConfigurationSnapshot} 
+	 * where default values are already layered in. It is the latest
+	 * published snapshot.
+	 */
+	public ConfigurationSnapshot getSnapshot() {
+		return published.snapshot;
 	}
 	
 	/**
@@ -241,31 +411,24 @@ public class Configuration {
 	 * @param settingName is "settingName1"
 	 * @return "some value" cast to "Type you need"
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends Object> T getSettingValue(String groupName, String settingName) {
-		HashMap<String, Object> group = getSettingGroup(groupName);
-		// if there is no group with specified name
-		if (group == null)
-			return null;
-		return (T) group.get(settingName);
+		return getSnapshot().getValue(groupName, settingName);
 	}
 
 	/**
 	 *  parsing of json configuration
 	 * @param filePath - path to explicitly given JSON file 
 	 */
-	private void parseSettings(String filePath) {
+	private ConfigurationSnapshot parseSettings(String filePath) {
 
 		File settingFile = new File(filePath);
 		if (!settingFile.exists())
-			return;
-		try {
-			JSONObject jsonObject = (JSONObject) new JSONParser()
-			.parse(new FileReader(settingFile));
-			@SuppressWarnings("unchecked")
-			Set<String> keys = jsonObject.keySet(); // there are groups
-			keys.forEach((key) -> mappedSettings.put(key,
-					getParsedGroup((JSONObject) jsonObject.get(key))));
+			return ConfigurationSnapshot.EMPTY;
+		try (Reader reader = new BufferedReader(new FileReader(settingFile))) {
+			return new ConfigurationSnapshot(StreamingSettingsLoader.load(
+					filePath, reader));
+		} catch (SettingsValidationException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new RuntimeException(
 					"Configuration building has failed! Please, check it. You can look at SAMPLE_SETTING.json for verifying. ",
@@ -275,11 +438,6 @@ public class Configuration {
 	
 	@Override
 	public String toString(){
-		String result = "";
-		Set<String> keys = mappedSettings.keySet();
-		for (String key: keys){
-			result = result + key + ": " + mappedSettings.get(key).toString() + " ; ";
-		}
-		return result;
+		return getSnapshot().toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.github.arachnidium.util.configuration;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event of {@link Configuration#reload()}. This class
+ * is loaded only when <code>jdk.jfr</code> is available.
+ */
+@Name("com.github.arachnidium.ConfigurationReload")
+@Label("Configuration Reload")
+@Description("Re-reading of a settings file and notification of subscribers")
+@Category("Arachnidium")
+final class ConfigurationReloadEvent extends Event {
+	// it is used to check whether events are enabled without allocations
+	private static final ConfigurationReloadEvent PROTOTYPE = new ConfigurationReloadEvent();
+
+	@Label("File")
+	String filePath;
+
+	@Label("Changed Groups")
+	int changedGroups;
+
+	static Object start() {
+		if (!PROTOTYPE.isEnabled()) {
+			return null;
+		}
+		ConfigurationReloadEvent event = new ConfigurationReloadEvent();
+		event.begin();
+		return event;
+	}
+
+	static void finish(Object started, String filePath, int changedGroups) {
+		ConfigurationReloadEvent event = (ConfigurationReloadEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.filePath = filePath;
+			event.changedGroups = changedGroups;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.github.arachnidium.util.configuration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This is an immutable state of {@link Configuration}. It is built only once
+ * when settings are parsed. Values of default settings (see
+ * {@link Configuration#byDefault}) are already layered in. So there is no need
+ * to look for them each time when some setting is read.<br/>
+ * <br/>
+ * When settings are reloaded a new snapshot with the greater version
+ * is published by {@link Configuration}.
+ */
+public final class ConfigurationSnapshot {
+	static final ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(
+			Collections.<String, Map<String, Object>> emptyMap());
+
+	private final Map<String, Map<String, Object>> groups;
+	private final long version;
+
+	ConfigurationSnapshot(Map<String, ? extends Map<String, Object>> groups) {
+		Map<String, Map<String, Object>> copy = new LinkedHashMap<String, Map<String, Object>>();
+		groups.forEach((name, group) -> copy.put(name,
+				Collections.unmodifiableMap(new HashMap<String, Object>(group))));
+		this.groups = Collections.unmodifiableMap(copy);
+		this.version = 0;
+	}
+
+	private ConfigurationSnapshot(ConfigurationSnapshot source, long version) {
+		this.groups = source.groups;
+		this.version = version;
+	}
+
+	/**
+	 * @param version is the required version
+	 * @return the snapshot with the same values and the given version
+	 */
+	ConfigurationSnapshot withVersion(long version) {
+		return new ConfigurationSnapshot(this, version);
+	}
+
+	/**
+	 * @param another is the snapshot to be compared with
+	 * @return names of groups which are different in these snapshots
+	 */
+	Set<String> getChangedGroups(ConfigurationSnapshot another) {
+		Set<String> result = new HashSet<String>();
+		Set<String> names = new HashSet<String>(groups.keySet());
+		names.addAll(another.groups.keySet());
+		for (String name : names) {
+			if (!Objects.equals(groups.get(name), another.groups.get(name))) {
+				result.add(name);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the version of the snapshot. It is increased by each reloading
+	 *         which changes some values
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @param defaults is the snapshot of default settings
+	 * @return a new snapshot. Its values are taken from this snapshot. Values
+	 *         of the given <code>defaults</code> are taken when there are no
+	 *         such settings or they are <code>null</code>
+	 */
+	ConfigurationSnapshot layeredOver(ConfigurationSnapshot defaults) {
+		if (defaults == null || defaults == this) {
+			return this;
+		}
+		Map<String, Map<String, Object>> merged = new LinkedHashMap<String, Map<String, Object>>();
+		defaults.groups.forEach((name, group) -> merged.put(name,
+				new HashMap<String, Object>(group)));
+		groups.forEach((name, group) -> {
+			Map<String, Object> mergedGroup = merged.get(name);
+			if (mergedGroup == null) {
+				mergedGroup = new HashMap<String, Object>();
+				merged.put(name, mergedGroup);
+			}
+			for (Map.Entry<String, Object> setting : group.entrySet()) {
+				if (setting.getValue() != null
+						|| !mergedGroup.containsKey(setting.getKey())) {
+					mergedGroup.put(setting.getKey(), setting.getValue());
+				}
+			}
+		});
+		return new ConfigurationSnapshot(merged).withVersion(version);
+	}
+
+	/**
+	 * @return names of setting groups
+	 */
+	public Set<String> getGroupNames() {
+		return groups.keySet();
+	}
+
+	/**
+	 * @param groupName is the name of the setting group
+	 * @return unmodifiable {@link Map} where keys are setting names. It
+	 *         returns <code>null</code> if there is no such group
+	 */
+	public Map<String, Object> getGroup(String groupName) {
+		return groups.get(groupName);
+	}
+
+	/**
+	 * @param groupName is the name of the setting group
+	 * @param settingName is the name of the setting
+	 * @return value of the setting or <code>null</code> if it is not defined
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Object> T getValue(String groupName, String settingName) {
+		Map<String, Object> group = groups.get(groupName);
+		if (group == null)
+			return null;
+		return (T) group.get(settingName);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder();
+		groups.forEach((name, group) -> result.append(name).append(": ")
+				.append(group.toString()).append(" ; "));
+		return result.toString();
+	}
+}
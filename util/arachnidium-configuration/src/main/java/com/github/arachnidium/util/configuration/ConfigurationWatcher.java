@@ -0,0 +1,138 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches JSON files of {@link Configuration} instances by {@link WatchService}
+ * and reloads them when files are changed. There is only one daemon thread for
+ * all watched files.<br/>
+ * <br/>
+ * If the changed file can't be parsed (e.g. it is being saved right now) the
+ * previous snapshot is kept. The file will be re-parsed after the next change.
+ */
+final class ConfigurationWatcher {
+	private static final String THREAD_NAME = "arachnidium-configuration-watcher";
+	private static final Logger LOGGER = Logger
+			.getLogger(ConfigurationWatcher.class.getName());
+	private static ConfigurationWatcher instance;
+
+	private final WatchService watchService;
+	private final Map<Path, WatchKey> directories = new HashMap<Path, WatchKey>();
+	private final Map<Path, Set<Configuration>> watched = new HashMap<Path, Set<Configuration>>();
+
+	static synchronized ConfigurationWatcher getInstance() {
+		if (instance == null) {
+			instance = new ConfigurationWatcher();
+		}
+		return instance;
+	}
+
+	private ConfigurationWatcher() {
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		Thread thread = new Thread(this::watch, THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Starts watching of the file
+	 */
+	synchronized void add(Path file, Configuration configuration) {
+		Path directory = file.getParent();
+		if (!directories.containsKey(directory)) {
+			try {
+				directories.put(directory, directory.register(watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		Set<Configuration> configurations = watched.get(file);
+		if (configurations == null) {
+			configurations = new LinkedHashSet<Configuration>();
+			watched.put(file, configurations);
+		}
+		configurations.add(configuration);
+	}
+
+	/**
+	 * Stops watching of the file
+	 */
+	synchronized void remove(Path file, Configuration configuration) {
+		Set<Configuration> configurations = watched.get(file);
+		if (configurations == null) {
+			return;
+		}
+		configurations.remove(configuration);
+		if (!configurations.isEmpty()) {
+			return;
+		}
+		watched.remove(file);
+		Path directory = file.getParent();
+		for (Path f : watched.keySet()) {
+			if (directory.equals(f.getParent())) {
+				return;
+			}
+		}
+		WatchKey key = directories.remove(directory);
+		if (key != null) {
+			key.cancel();
+		}
+	}
+
+	private synchronized Set<Configuration> getConfigurations(Path file) {
+		Set<Configuration> configurations = watched.get(file);
+		if (configurations == null) {
+			return new LinkedHashSet<Configuration>();
+		}
+		return new LinkedHashSet<Configuration>(configurations);
+	}
+
+	private void watch() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			Path directory = (Path) key.watchable();
+			Set<Path> changed = new LinkedHashSet<Path>();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					continue;
+				}
+				changed.add(directory.resolve((Path) event.context()));
+			}
+			key.reset();
+			for (Path file : changed) {
+				for (Configuration configuration : getConfigurations(file)) {
+					try {
+						configuration.reload();
+					} catch (RuntimeException e) {
+						LOGGER.log(Level.WARNING, "Settings of " + file
+								+ " can't be reloaded. Previous values are kept.", e);
+					}
+				}
+			}
+		}
+	}
+}
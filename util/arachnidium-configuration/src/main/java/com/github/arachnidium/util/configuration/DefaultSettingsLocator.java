@@ -0,0 +1,258 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the file of default settings. It is looked for in this order:<br/>
+ * - the path defined by the <code>arachnidium.settings</code> system property;<br/>
+ * - the path defined by the <code>ARACHNIDIUM_SETTINGS</code> environment variable;<br/>
+ * - <code>settings.json</code> which is available as a classpath resource
+ * (only resources which are files are used);<br/>
+ * - the path cached in the index file after the previous scan;<br/>
+ * - the breadth-first scan of the working directory. Its depth is bounded
+ * by the <code>arachnidium.settings.scanDepth</code> system property
+ * (default value is 12). Directories which match patterns defined by
+ * the <code>arachnidium.settings.ignore</code> system property
+ * (comma separated regular expressions) are skipped. Hidden directories,
+ * <code>node_modules</code> and <code>target</code> are skipped by default.<br/>
+ * <br/>
+ * The index file (<code>arachnidium-settings-&lt;hash&gt;.idx</code>) is
+ * located in the <code>java.io.tmpdir</code> folder and it is bound to the
+ * working directory. The cached entry is checked before it is used. It is
+ * ignored if it was written for another working directory, if the cached
+ * file doesn't exist anymore or it is out of the scanned tree, and if
+ * there is a closer file on the way from the working directory to the
+ * cached one (the directory of the cached file and its parents). A new
+ * file which is put aside of this way (e.g. in a sibling directory) is not
+ * noticed. Then the index file should be deleted or the file should be
+ * defined explicitly by the <code>arachnidium.settings</code> system
+ * property.
+ */
+final class DefaultSettingsLocator {
+
+	static final String SETTINGS_PROPERTY = "arachnidium.settings";
+	static final String SETTINGS_ENV = "ARACHNIDIUM_SETTINGS";
+	static final String SCAN_DEPTH_PROPERTY = "arachnidium.settings.scanDepth";
+	static final String IGNORE_PROPERTY = "arachnidium.settings.ignore";
+
+	private static final String COMMON_FILE_NAME = "settings.json";
+	private static final int DEFAULT_SCAN_DEPTH = 12;
+	private static final String DEFAULT_IGNORE = "\\..+,node_modules,target";
+	private static final String INDEX_FILE_PREFIX = "arachnidium-settings-";
+	private static final String INDEX_FILE_SUFFIX = ".idx";
+
+	private DefaultSettingsLocator() {
+		super();
+	}
+
+	/**
+	 * @param startPath is the directory where the search starts
+	 * @return path to the file of default settings or <code>null</code>
+	 * if there is no such file
+	 */
+	static String locate(String startPath) {
+		String explicit = System.getProperty(SETTINGS_PROPERTY);
+		if (isNotEmpty(explicit)) {
+			return explicit;
+		}
+
+		explicit = System.getenv(SETTINGS_ENV);
+		if (isNotEmpty(explicit)) {
+			return explicit;
+		}
+
+		String fromClassPath = fromClassPath();
+		if (fromClassPath != null) {
+			return fromClassPath;
+		}
+
+		File start = new File(startPath).getAbsoluteFile();
+		File index = getIndexFile(start);
+		int scanDepth = getScanDepth();
+		List<Pattern> ignorePatterns = getIgnorePatterns();
+		String indexed = readIndex(index, start, scanDepth, ignorePatterns);
+		if (indexed != null) {
+			return indexed;
+		}
+
+		String scanned = scan(start, scanDepth, ignorePatterns);
+		if (scanned != null) {
+			writeIndex(index, start, scanned);
+		}
+		return scanned;
+	}
+
+	private static boolean isNotEmpty(String value) {
+		return value != null && !value.trim().isEmpty();
+	}
+
+	private static String fromClassPath() {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = DefaultSettingsLocator.class.getClassLoader();
+		}
+		URL resource = loader.getResource(COMMON_FILE_NAME);
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return null;
+		}
+		try {
+			return new File(resource.toURI()).getPath();
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static int getScanDepth() {
+		String depth = System.getProperty(SCAN_DEPTH_PROPERTY);
+		if (!isNotEmpty(depth)) {
+			return DEFAULT_SCAN_DEPTH;
+		}
+		try {
+			return Integer.parseInt(depth.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Value of " + SCAN_DEPTH_PROPERTY
+					+ " should be an integer. It is " + depth, e);
+		}
+	}
+
+	private static List<Pattern> getIgnorePatterns() {
+		String ignore = System.getProperty(IGNORE_PROPERTY, DEFAULT_IGNORE);
+		List<Pattern> result = new ArrayList<Pattern>();
+		for (String pattern : ignore.split(",")) {
+			if (isNotEmpty(pattern)) {
+				result.add(Pattern.compile(pattern.trim()));
+			}
+		}
+		return result;
+	}
+
+	private static boolean isIgnored(File directory, List<Pattern> ignorePatterns) {
+		String name = directory.getName();
+		for (Pattern p : ignorePatterns) {
+			if (p.matcher(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Breadth-first scan. So the file which is closer to the start
+	 * directory is found. Names are sorted in order to get the same
+	 * result each time.
+	 */
+	static String scan(File start, int maxDepth, List<Pattern> ignorePatterns) {
+		Deque<File> currentLevel = new ArrayDeque<File>();
+		currentLevel.add(start);
+		for (int depth = 0; depth <= maxDepth && !currentLevel.isEmpty(); depth++) {
+			Deque<File> nextLevel = new ArrayDeque<File>();
+			for (File directory : currentLevel) {
+				File[] content = directory.listFiles();
+				if (content == null) {
+					continue;
+				}
+				Arrays.sort(content);
+				for (File f : content) {
+					if (f.isFile() && f.getName().endsWith(COMMON_FILE_NAME)) {
+						return f.getPath();
+					}
+				}
+				for (File f : content) {
+					if (f.isDirectory() && !isIgnored(f, ignorePatterns)) {
+						nextLevel.add(f);
+					}
+				}
+			}
+			currentLevel = nextLevel;
+		}
+		return null;
+	}
+
+	private static File getIndexFile(File start) {
+		String tmp = System.getProperty("java.io.tmpdir");
+		return new File(tmp, INDEX_FILE_PREFIX
+				+ Integer.toHexString(start.getPath().hashCode())
+				+ INDEX_FILE_SUFFIX);
+	}
+
+	/**
+	 * The index file contains two lines: the start directory and the path
+	 * which has been found by the scan
+	 */
+	private static String readIndex(File index, File start, int maxDepth,
+			List<Pattern> ignorePatterns) {
+		if (!index.isFile()) {
+			return null;
+		}
+		try {
+			List<String> lines = Files.readAllLines(index.toPath(),
+					StandardCharsets.UTF_8);
+			if (lines.size() != 2 || !start.getPath().equals(lines.get(0))) {
+				return null;
+			}
+			File indexed = new File(lines.get(1));
+			if (indexed.isFile()
+					&& isClosest(start, indexed, maxDepth, ignorePatterns)) {
+				return indexed.getPath();
+			}
+		} catch (IOException e) {
+			// it will be scanned again
+		}
+		return null;
+	}
+
+	/**
+	 * Checks that the scan would find the given file on the way from the
+	 * start directory to it: there is no file which is closer
+	 */
+	private static boolean isClosest(File start, File indexed, int maxDepth,
+			List<Pattern> ignorePatterns) {
+		Deque<File> way = new ArrayDeque<File>();
+		File directory = indexed.getParentFile();
+		while (directory != null && !directory.equals(start)) {
+			if (isIgnored(directory, ignorePatterns)) {
+				return false;
+			}
+			way.push(directory);
+			directory = directory.getParentFile();
+		}
+		if (directory == null || way.size() > maxDepth) {
+			return false; // it is out of the scanned tree
+		}
+		way.push(start);
+
+		while (!way.isEmpty()) {
+			File[] content = way.pop().listFiles();
+			if (content == null) {
+				return false;
+			}
+			Arrays.sort(content);
+			for (File f : content) {
+				if (f.isFile() && f.getName().endsWith(COMMON_FILE_NAME)) {
+					return f.equals(indexed);
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void writeIndex(File index, File start, String path) {
+		try {
+			Files.write(index.toPath(), Arrays.asList(start.getPath(),
+					new File(path).getAbsolutePath()), StandardCharsets.UTF_8);
+		} catch (IOException | SecurityException e) {
+			// it is not critical. It will be scanned next time
+		}
+	}
+}
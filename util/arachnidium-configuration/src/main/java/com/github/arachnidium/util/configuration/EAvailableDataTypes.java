@@ -1,17 +1,17 @@
 package com.github.arachnidium.util.configuration;
 
-import java.lang.reflect.Constructor;
+import java.util.function.Function;
 
 /**
  * It has got types which are used by {@link Configuration} and
- * returns objects of these types. These classes should have constructor
- * like this: new Class(String value);
+ * returns objects of these types. Values are parsed directly by 
+ * <code>valueOf(String)</code> methods without any reflection.
  */
 enum EAvailableDataTypes {
 	/**
 	 * java.lang.String
 	 */
-	STRING(String.class){
+	STRING(String::valueOf){
 		@Override
 		<T> T getValue(String ignored, String strValue) {
 			return getValue(strValue);
@@ -20,7 +20,7 @@ enum EAvailableDataTypes {
 	/**
 	 * java.lang.Boolean
 	 */
-	BOOL(Boolean.class){
+	BOOL(Boolean::valueOf){
 		@Override
 		<T> T getValue(String ignored, String strValue) {
 			return getValue(strValue);
@@ -29,7 +29,7 @@ enum EAvailableDataTypes {
 	/**
 	 * java.lang.Long
 	 */	
-	LONG(Long.class){
+	LONG(Long::valueOf){
 		@Override
 		<T> T getValue(String ignored, String strValue) {
 			return getValue(strValue);
@@ -38,8 +38,7 @@ enum EAvailableDataTypes {
 	/**
 	 * java.lang.Float
 	 */	
-	FLOAT(
-			Float.class){
+	FLOAT(Float::valueOf){
 		@Override
 		<T> T getValue(String ignored, String strValue) {
 			return getValue(strValue);
@@ -48,7 +47,7 @@ enum EAvailableDataTypes {
 	/**
 	* java.lang.Integer
 	*/			
-	INT(Integer.class){
+	INT(Integer::valueOf){
 		@Override
 		<T> T getValue(String ignored, String strValue) {
 			return getValue(strValue);
@@ -58,7 +57,11 @@ enum EAvailableDataTypes {
 	/**
 	 * Some {@link Enum}
 	 */
-	ENUM(Enum.class){
+	ENUM((strValue) -> {
+		throw new IllegalArgumentException(
+				"Full name of the enum class should be defined. Value is "
+						+ strValue);
+	}){
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		<T> T getValue(String classFullName, String strValue) {
 			Class<Enum> enumCls = null;
@@ -73,21 +76,16 @@ enum EAvailableDataTypes {
 		
 	};
 
-	private final Class<?> usingClass;
+	private final Function<String, Object> parser;
 
-	private EAvailableDataTypes(Class<?> usingClass) {
-		this.usingClass = usingClass;
+	private EAvailableDataTypes(Function<String, Object> parser) {
+		this.parser = parser;
 	}
 
 	@SuppressWarnings("unchecked")
 	<T> T getValue(String strValue) {
-		Class<?>[] params = new Class<?>[] { String.class };
-		Object[] values = new Object[] { strValue };
-
 		try {
-			Constructor<?> suitableConstructor = usingClass
-					.getConstructor(params);
-			return (T) suitableConstructor.newInstance(values);
+			return (T) parser.apply(strValue);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -0,0 +1,47 @@
+package com.github.arachnidium.util.configuration;
+
+/**
+ * Emits Java Flight Recorder events of {@link Configuration#reload()}.
+ * Events are emitted only when <code>jdk.jfr</code> is available (Java 8u262
+ * and later) and they are enabled by the running recording. Otherwise
+ * {@link #beginReload()} returns <code>null</code> and
+ * {@link #endReload(Object, String, int)} does nothing.
+ */
+final class FlightRecorderEvents {
+	private static final boolean IS_SUPPORTED = isSupported();
+
+	private static boolean isSupported() {
+		try {
+			Class.forName("jdk.jfr.Event", false,
+					FlightRecorderEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private FlightRecorderEvents() {
+		super();
+	}
+
+	/**
+	 * @return the started event or <code>null</code> if it is not recorded
+	 */
+	static Object beginReload() {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+		return ConfigurationReloadEvent.start();
+	}
+
+	/**
+	 * Finishes and commits the event which is returned by
+	 * {@link #beginReload()}
+	 */
+	static void endReload(Object event, String filePath, int changedGroups) {
+		if (event == null) {
+			return;
+		}
+		ConfigurationReloadEvent.finish(event, filePath, changedGroups);
+	}
+}
@@ -1,19 +1,48 @@
 package com.github.arachnidium.util.configuration;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper.Setting;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+/**
+ * This is an interceptor of {@link AbstractConfigurationAccessHelper}
+ * subclasses. <br/>
+ * <br/>
+ * Names of settings are read from {@link Setting} annotations only once
+ * per helper class. The setting which is being read by the current thread
+ * is kept by {@link ThreadLocal}. So the same helper can be used by several
+ * threads. Values are taken from {@link ConfigurationSnapshot} only once
+ * when the helper is created. So reading of a setting doesn't need any
+ * access to {@link Configuration}.
+ */
 class HelperInterceptor implements MethodInterceptor {
-	private final List<Method> CURRENT_STACK = new ArrayList<Method>();
 	private static final Class<?>[] EMPTY_PARAMS = new Class<?>[] {};
 	private static final Method GET_SETTING = findGetSettingMethod();
-	
+	private static final Map<Class<?>, Map<Method, String>> SETTINGS_OF_CLASSES =
+			new ConcurrentHashMap<Class<?>, Map<Method, String>>();
+
+	/**
+	 * The name of setting which is being read by the current thread
+	 * and the helper which reads it
+	 */
+	private static final class CurrentSetting {
+		private Object helper;
+		private String name;
+	}
+
+	private static final ThreadLocal<CurrentSetting> CURRENT_SETTING =
+			ThreadLocal.withInitial(() -> new CurrentSetting());
+
+	private final Map<Method, String> settings;
+	private final Map<String, Object> resolvedValues;
+
 	private static Method findGetSettingMethod(){
 		try {
 			return AbstractConfigurationAccessHelper.class.getDeclaredMethod(
@@ -24,17 +53,36 @@ class HelperInterceptor implements MethodInterceptor {
 		}
 	}
 
-	private String getSettingAnnotationVlue(int upperIndexToStart){
-		for (int i = upperIndexToStart; i >= 0; i--){
-			Method m = CURRENT_STACK.get(i);
-			if (!m.isAnnotationPresent(Setting.class)){
-				continue;
+	private static Map<Method, String> getSettingsOf(Class<?> helperClass) {
+		Map<Method, String> result = new HashMap<Method, String>();
+		Class<?> clazz = helperClass;
+		while (clazz != null && !Object.class.equals(clazz)) {
+			for (Method m : clazz.getDeclaredMethods()) {
+				Setting setting = m.getAnnotation(Setting.class);
+				if (setting == null) {
+					continue;
+				}
+				result.putIfAbsent(m, setting.setting());
 			}
-			
-			Setting settingAnnotation = m.getAnnotation(Setting.class);
-			return settingAnnotation.setting();
+			clazz = clazz.getSuperclass();
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * @param helperClass is the class of the intercepted helper
+	 * @param group is the setting group taken from {@link ConfigurationSnapshot}. 
+	 * It can be <code>null</code>
+	 */
+	HelperInterceptor(Class<? extends AbstractConfigurationAccessHelper> helperClass,
+			Map<String, Object> group) {
+		settings = SETTINGS_OF_CLASSES.computeIfAbsent(helperClass,
+				HelperInterceptor::getSettingsOf);
+		Map<String, Object> values = new HashMap<String, Object>();
+		if (group != null) {
+			settings.values().forEach((setting) -> values.put(setting, group.get(setting)));
 		}
-		return null;
+		resolvedValues = Collections.unmodifiableMap(values);
 	}
 
 	/**
@@ -44,20 +92,29 @@ class HelperInterceptor implements MethodInterceptor {
 	@Override
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
-
-		CURRENT_STACK.add(method);
-		try{
-			if (!method.equals(GET_SETTING)){
-				return proxy.invokeSuper(obj, args);
-			}
-			String setting = getSettingAnnotationVlue(CURRENT_STACK.size() - 1);
-			if (setting == null){
+		CurrentSetting current = CURRENT_SETTING.get();
+		if (method.equals(GET_SETTING)) {
+			if (current.helper != obj) {
 				return proxy.invokeSuper(obj, args);
 			}
-			return ((AbstractConfigurationAccessHelper) obj).getSettingValue(setting);			
+			return resolvedValues.get(current.name);
+		}
+
+		String setting = settings.get(method);
+		if (setting == null) {
+			return proxy.invokeSuper(obj, args);
+		}
+
+		Object previousHelper = current.helper;
+		String previousName = current.name;
+		current.helper = obj;
+		current.name = setting;
+		try {
+			return proxy.invokeSuper(obj, args);
 		}
-		finally{
-			CURRENT_STACK.remove(CURRENT_STACK.size() - 1);
+		finally {
+			current.helper = previousHelper;
+			current.name = previousName;
 		}
 	}
 
@@ -0,0 +1,187 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper.Setting;
+
+/**
+ * The schema of settings which is derived from {@link Group} and
+ * {@link Setting} annotated helpers.<br/>
+ * <br/>
+ * Helper classes are listed in
+ * <code>META-INF/arachnidium/settings-groups</code> resources. Each line is
+ * the full name of a class. Lines which start with # are comments. Classes are
+ * not initialized.<br/>
+ * <br/>
+ * A type of a setting is known when the {@link Setting} annotated method
+ * returns {@link String}, {@link Boolean}, {@link Long}, {@link Integer} or
+ * {@link Float}. Other return types mean that the value is transformed by the
+ * helper, so any type is allowed. A group is closed when its helpers have
+ * {@link Setting} annotated methods. Otherwise any setting is allowed there
+ * (e.g. <code>DesiredCapabilities</code>).
+ */
+final class SettingsSchema {
+	static final String SCHEMA_RESOURCE = "META-INF/arachnidium/settings-groups";
+	private static final String COMMENT = "#";
+	private static final Map<Class<?>, EAvailableDataTypes> KNOWN_TYPES = new HashMap<Class<?>, EAvailableDataTypes>() {
+		private static final long serialVersionUID = 1L;
+		{
+			put(String.class, EAvailableDataTypes.STRING);
+			put(Boolean.class, EAvailableDataTypes.BOOL);
+			put(boolean.class, EAvailableDataTypes.BOOL);
+			put(Long.class, EAvailableDataTypes.LONG);
+			put(long.class, EAvailableDataTypes.LONG);
+			put(Integer.class, EAvailableDataTypes.INT);
+			put(int.class, EAvailableDataTypes.INT);
+			put(Float.class, EAvailableDataTypes.FLOAT);
+			put(float.class, EAvailableDataTypes.FLOAT);
+		}
+	};
+
+	private static volatile SettingsSchema instance;
+
+	/**
+	 * Description of a setting
+	 */
+	static final class SettingDescription {
+		private final EAvailableDataTypes type;
+		private final String declaredBy;
+
+		private SettingDescription(EAvailableDataTypes type, String declaredBy) {
+			this.type = type;
+			this.declaredBy = declaredBy;
+		}
+
+		/**
+		 * @return the required type or <code>null</code> if any type is allowed
+		 */
+		EAvailableDataTypes getType() {
+			return type;
+		}
+
+		/**
+		 * @return the name of the method which reads this setting
+		 */
+		String getDeclaredBy() {
+			return declaredBy;
+		}
+	}
+
+	// group -> setting -> description
+	private final Map<String, Map<String, SettingDescription>> groups = new HashMap<String, Map<String, SettingDescription>>();
+
+	static SettingsSchema get() {
+		SettingsSchema result = instance;
+		if (result == null) {
+			synchronized (SettingsSchema.class) {
+				result = instance;
+				if (result == null) {
+					result = load();
+					instance = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static SettingsSchema load() {
+		SettingsSchema schema = new SettingsSchema();
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = SettingsSchema.class.getClassLoader();
+		}
+		try {
+			Enumeration<URL> resources = loader.getResources(SCHEMA_RESOURCE);
+			while (resources.hasMoreElements()) {
+				readResource(resources.nextElement(), loader, schema);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return schema;
+	}
+
+	private static void readResource(URL resource, ClassLoader loader,
+			SettingsSchema schema) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				resource.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith(COMMENT)) {
+					continue;
+				}
+				try {
+					schema.add(Class.forName(line, false, loader));
+				} catch (ClassNotFoundException | LinkageError e) {
+					// the module of the helper is not available. It is not checked
+				}
+			}
+		}
+	}
+
+	SettingsSchema() {
+		super();
+	}
+
+	/**
+	 * Adds settings of the helper class to the schema
+	 */
+	void add(Class<?> helperClass) {
+		Group group = helperClass.getAnnotation(Group.class);
+		if (group == null
+				|| !AbstractConfigurationAccessHelper.class
+						.isAssignableFrom(helperClass)) {
+			return;
+		}
+		Map<String, SettingDescription> settings = groups.get(group
+				.settingGroup());
+		if (settings == null) {
+			settings = new HashMap<String, SettingDescription>();
+			groups.put(group.settingGroup(), settings);
+		}
+		Class<?> clazz = helperClass;
+		while (clazz != null && !Object.class.equals(clazz)) {
+			for (Method m : clazz.getDeclaredMethods()) {
+				Setting setting = m.getAnnotation(Setting.class);
+				if (setting == null || settings.containsKey(setting.setting())) {
+					continue;
+				}
+				settings.put(setting.setting(), new SettingDescription(
+						KNOWN_TYPES.get(m.getReturnType()), helperClass
+								.getName() + "." + m.getName() + "()"));
+			}
+			clazz = clazz.getSuperclass();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if only declared settings are allowed in the
+	 *         group
+	 */
+	boolean isClosed(String group) {
+		Map<String, SettingDescription> settings = groups.get(group);
+		return settings != null && !settings.isEmpty();
+	}
+
+	/**
+	 * @return description of the setting or <code>null</code> if it is not
+	 *         declared
+	 */
+	SettingDescription getDescription(String group, String setting) {
+		Map<String, SettingDescription> settings = groups.get(group);
+		if (settings == null) {
+			return null;
+		}
+		return settings.get(setting);
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.github.arachnidium.util.configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * It is thrown when a JSON file of settings is not valid. It contains
+ * all problems which have been found.
+ */
+public class SettingsValidationException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	private final List<String> problems;
+
+	SettingsValidationException(String filePath, List<String> problems) {
+		super(getMessage(filePath, problems));
+		this.problems = Collections.unmodifiableList(new ArrayList<String>(
+				problems));
+	}
+
+	private static String getMessage(String filePath, List<String> problems) {
+		StringBuilder message = new StringBuilder(
+				"Configuration building has failed! Please, check it. You can look at SAMPLE_SETTING.json for verifying. ")
+				.append(problems.size()).append(" problem(s) in ")
+				.append(filePath).append(":");
+		problems.forEach((problem) -> message.append("\n - ").append(problem));
+		return message.toString();
+	}
+
+	/**
+	 * @return descriptions of all problems which have been found
+	 */
+	public List<String> getProblems() {
+		return problems;
+	}
+}
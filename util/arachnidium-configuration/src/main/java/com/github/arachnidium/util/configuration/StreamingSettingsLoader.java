@@ -0,0 +1,267 @@
+package com.github.arachnidium.util.configuration;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import com.github.arachnidium.util.configuration.SettingsSchema.SettingDescription;
+
+/**
+ * Reads JSON settings in one pass. There is no intermediate DOM. Each setting
+ * is converted into its type as soon as its description is read and it is
+ * validated against {@link SettingsSchema}. All found problems are reported
+ * together by {@link SettingsValidationException}.<br/>
+ * <br/>
+ * Unknown settings of groups which are declared by helpers are reported
+ * only when the <code>arachnidium.settings.strict</code> system property is
+ * "true".
+ */
+class StreamingSettingsLoader implements ContentHandler {
+	static final String STRICT_PROPERTY = "arachnidium.settings.strict";
+
+	private static final String TYPE_TAG = "type";
+	private static final String REQUIRED_CLASS_TAG = "class";
+	private static final String VALUE_TAG = "value";
+
+	private static final int ROOT = 1;
+	private static final int GROUP = 2;
+	private static final int SETTING = 3;
+
+	private final SettingsSchema schema;
+	private final boolean isStrict;
+	private final Map<String, HashMap<String, Object>> result = new LinkedHashMap<String, HashMap<String, Object>>();
+	private final List<String> problems = new ArrayList<String>();
+
+	private int depth;
+	// depth of the structure which is skipped because it is not valid
+	private int skipped;
+	private String group;
+	private String setting;
+	private String tag;
+	private final Map<String, Object> tags = new HashMap<String, Object>();
+
+	StreamingSettingsLoader(SettingsSchema schema, boolean isStrict) {
+		this.schema = schema;
+		this.isStrict = isStrict;
+	}
+
+	/**
+	 * @param filePath is used in the message of
+	 *            {@link SettingsValidationException}
+	 * @param reader provides JSON
+	 * @return parsed groups of settings
+	 * @throws SettingsValidationException if there are problems
+	 * @throws IOException if the JSON can't be read
+	 */
+	static Map<String, HashMap<String, Object>> load(String filePath,
+			Reader reader) throws IOException {
+		StreamingSettingsLoader loader = new StreamingSettingsLoader(
+				SettingsSchema.get(), Boolean.getBoolean(STRICT_PROPERTY));
+		try {
+			new JSONParser().parse(reader, loader);
+		} catch (ParseException e) {
+			loader.problems.add("JSON syntax error at position "
+					+ e.getPosition() + ": " + e.toString());
+		}
+		if (!loader.problems.isEmpty()) {
+			throw new SettingsValidationException(filePath, loader.problems);
+		}
+		return loader.result;
+	}
+
+	private String where() {
+		if (setting != null) {
+			return group + "/" + setting + ": ";
+		}
+		if (group != null) {
+			return group + ": ";
+		}
+		return "";
+	}
+
+	private boolean skipStructure(String problem) {
+		problems.add(where() + problem);
+		skipped++;
+		return true;
+	}
+
+	@Override
+	public void startJSON() {
+	}
+
+	@Override
+	public void endJSON() {
+	}
+
+	@Override
+	public boolean startObject() {
+		if (skipped > 0) {
+			skipped++;
+			return true;
+		}
+		if (depth == SETTING) {
+			return skipStructure("the \"" + tag + "\" field should be a string");
+		}
+		depth++;
+		if (depth == GROUP && !result.containsKey(group)) {
+			result.put(group, new HashMap<String, Object>());
+		}
+		if (depth == SETTING) {
+			tags.clear();
+		}
+		return true;
+	}
+
+	@Override
+	public boolean endObject() {
+		if (skipped > 0) {
+			skipped--;
+			return true;
+		}
+		if (depth == SETTING) {
+			convert();
+		}
+		depth--;
+		return true;
+	}
+
+	@Override
+	public boolean startObjectEntry(String key) {
+		if (skipped > 0) {
+			return true;
+		}
+		switch (depth) {
+		case ROOT:
+			group = key;
+			break;
+		case GROUP:
+			setting = key;
+			break;
+		default:
+			tag = key;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean endObjectEntry() {
+		if (skipped > 0) {
+			return true;
+		}
+		switch (depth) {
+		case ROOT:
+			group = null;
+			break;
+		case GROUP:
+			setting = null;
+			break;
+		default:
+			tag = null;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean startArray() {
+		if (skipped > 0) {
+			skipped++;
+			return true;
+		}
+		return skipStructure("arrays are not supported");
+	}
+
+	@Override
+	public boolean endArray() {
+		skipped--;
+		return true;
+	}
+
+	@Override
+	public boolean primitive(Object value) {
+		if (skipped > 0) {
+			return true;
+		}
+		switch (depth) {
+		case 0:
+			problems.add("the root element should be a JSON object");
+			break;
+		case ROOT:
+			problems.add(where() + "a group of settings should be a JSON object");
+			break;
+		case GROUP:
+			problems.add(where() + "the value of a setting should be a JSON object with the \""
+					+ TYPE_TAG + "\" and \"" + VALUE_TAG + "\" fields");
+			break;
+		default:
+			tags.put(tag, value);
+		}
+		return true;
+	}
+
+	private static String asString(Object value) {
+		return value == null ? null : String.valueOf(value);
+	}
+
+	/**
+	 * Converts the value of the current setting into its type
+	 */
+	private void convert() {
+		HashMap<String, Object> settings = result.get(group);
+
+		SettingDescription description = schema.getDescription(group, setting);
+		if (description == null && isStrict && schema.isClosed(group)) {
+			problems.add(where() + "there is no such setting in the group");
+		}
+
+		String type = asString(tags.get(TYPE_TAG));
+		EAvailableDataTypes requiredType;
+		try {
+			requiredType = EAvailableDataTypes.valueOf(type);
+		} catch (IllegalArgumentException | NullPointerException e) {
+			problems.add(where()
+					+ "type specification that is not supported! Specification is "
+					+ String.valueOf(type)
+					+ ". STRING, BOOL, LONG, FLOAT, INT, ENUM are suppurted.");
+			return;
+		}
+
+		if (description != null && description.getType() != null
+				&& description.getType() != requiredType) {
+			problems.add(where() + requiredType + " is defined but "
+					+ description.getDeclaredBy() + " expects "
+					+ description.getType());
+		}
+
+		String className = asString(tags.get(REQUIRED_CLASS_TAG));
+		String strValue = asString(tags.get(VALUE_TAG));
+		if ("".equals(strValue) || strValue == null) {
+			settings.put(setting, null);
+			return;
+		}
+		try {
+			if (requiredType == EAvailableDataTypes.ENUM) {
+				if ("".equals(className) || className == null) {
+					problems.add(where() + "the \"" + REQUIRED_CLASS_TAG
+							+ "\" field is required by ENUM");
+					return;
+				}
+				settings.put(setting, requiredType.getValue(className, strValue));
+			} else {
+				settings.put(setting, requiredType.getValue(strValue));
+			}
+		} catch (RuntimeException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			problems.add(where() + "the value \"" + strValue
+					+ "\" can't be converted to " + requiredType + ". "
+					+ cause.toString());
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package config_tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.aspectj.lang.reflect.AdviceKind;
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.util.configuration.Configuration;
+
+public class ConcurrentReadingTest {
+
+  @Test
+  public void test() throws Exception {
+	  Configuration config = Configuration.get("src/test/resources/test2.json");
+	  TestHelper helper = config.getSection(TestHelper.class);
+	  ExecutorService executor = Executors.newFixedThreadPool(8);
+	  try {
+		  List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+		  for (int i = 0; i < 8; i++) {
+			  Callable<Boolean> reading = () -> {
+				  for (int j = 0; j < 10000; j++) {
+					  if (!AdviceKind.BEFORE.equals(helper.getAspectKind())
+							  || helper.getInt1() != 5 || helper.getInt2() != 6) {
+						  return false;
+					  }
+				  }
+				  return true;
+			  };
+			  results.add(executor.submit(reading));
+		  }
+		  for (Future<Boolean> result : results) {
+			  Assert.assertTrue(result.get());
+		  }
+	  } finally {
+		  executor.shutdownNow();
+	  }
+	  Assert.assertSame(helper, config.getSection(TestHelper.class));
+  }
+}
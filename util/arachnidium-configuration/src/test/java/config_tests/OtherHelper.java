@@ -0,0 +1,13 @@
+package config_tests;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+@Group(settingGroup = "other")
+public class OtherHelper extends AbstractConfigurationAccessHelper {
+
+	public OtherHelper(Configuration configuration, String desiredSettingGroup) {
+		super(configuration, desiredSettingGroup);
+	}
+}
@@ -0,0 +1,76 @@
+package config_tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aspectj.lang.reflect.AdviceKind;
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.util.configuration.Configuration;
+
+public class ReloadTest {
+
+  private static File copyOfTest2() throws Exception {
+	  File file = File.createTempFile("reload", ".json");
+	  file.deleteOnExit();
+	  Files.copy(new File("src/test/resources/test2.json").toPath(), file.toPath(),
+			  StandardCopyOption.REPLACE_EXISTING);
+	  return file;
+  }
+
+  private static void replace(File file, String target, String replacement) throws Exception {
+	  String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	  Files.write(file.toPath(), content.replace(target, replacement).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void reloadTest() throws Exception {
+	  File file = copyOfTest2();
+	  Configuration config = Configuration.get(file.getAbsolutePath());
+	  TestHelper helper = config.getSection(TestHelper.class);
+	  long version = config.getSnapshot().getVersion();
+
+	  AtomicInteger testChanges = new AtomicInteger();
+	  AtomicInteger otherChanges = new AtomicInteger();
+	  config.subscribe((c) -> testChanges.incrementAndGet(), TestHelper.class);
+	  config.subscribe((c) -> otherChanges.incrementAndGet(), OtherHelper.class);
+
+	  config.reload(); // nothing is changed
+	  Assert.assertEquals(0, testChanges.get());
+	  Assert.assertSame(helper, config.getSection(TestHelper.class));
+
+	  replace(file, "\"6\"", "\"7\"");
+	  config.reload();
+	  Assert.assertEquals(1, testChanges.get());
+	  Assert.assertEquals(0, otherChanges.get());
+	  Assert.assertEquals(version + 1, config.getSnapshot().getVersion());
+
+	  TestHelper reloaded = config.getSection(TestHelper.class);
+	  Assert.assertNotSame(helper, reloaded);
+	  Assert.assertEquals(new Integer("7"), reloaded.getInt2());
+	  Assert.assertEquals(AdviceKind.BEFORE, reloaded.getAspectKind());
+	  // the previous helper keeps values of the previous snapshot
+	  Assert.assertEquals(new Integer("6"), helper.getInt2());
+  }
+
+  @Test
+  public void watchTest() throws Exception {
+	  File file = copyOfTest2();
+	  Configuration config = Configuration.get(file.getAbsolutePath()).watch();
+	  CountDownLatch changed = new CountDownLatch(1);
+	  config.subscribe((c) -> changed.countDown(), TestHelper.class);
+	  try {
+		  replace(file, "\"5\"", "\"8\"");
+		  Assert.assertTrue(changed.await(30, TimeUnit.SECONDS));
+		  Assert.assertEquals(new Integer("8"), config.getSection(TestHelper.class).getInt1());
+	  } finally {
+		  config.stopWatching();
+	  }
+  }
+}
@@ -0,0 +1,32 @@
+package config_tests;
+
+import java.util.Map;
+
+import org.aspectj.lang.reflect.AdviceKind;
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.ConfigurationSnapshot;
+
+public class SnapshotTest {
+
+  @Test
+  public void test() {
+	  ConfigurationSnapshot snapshot = Configuration.get("src/test/resources/test1.json").getSnapshot();
+	  // int2 is defined by test1.json, other values are taken from settings.json
+	  Assert.assertEquals(new Integer("4"), snapshot.getValue("test", "int2"));
+	  Assert.assertEquals(new Integer("2"), snapshot.getValue("test", "int1"));
+	  Assert.assertEquals(AdviceKind.AFTER, snapshot.getValue("test", "aspect"));
+	  Assert.assertNull(snapshot.getValue("test", "absent"));
+	  Assert.assertNull(snapshot.getGroup("absent"));
+
+	  Map<String, Object> group = snapshot.getGroup("test");
+	  try {
+		  group.put("int1", 10);
+		  Assert.fail("Snapshot should be immutable");
+	  } catch (UnsupportedOperationException e) {
+		  Assert.assertEquals(new Integer("2"), snapshot.getValue("test", "int1"));
+	  }
+  }
+}
@@ -0,0 +1,29 @@
+package config_tests;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.SettingsValidationException;
+
+public class ValidationTest {
+
+  @Test
+  public void test() {
+	  try {
+		  Configuration.get("src/test/resources/invalid.json");
+		  Assert.fail("Invalid settings should not be loaded");
+	  } catch (SettingsValidationException e) {
+		  List<String> problems = e.getProblems();
+		  System.out.println(e.getMessage());
+		  // all problems are reported at once
+		  Assert.assertEquals(4, problems.size());
+		  Assert.assertTrue(problems.get(0).startsWith("test/aspect:"));
+		  Assert.assertTrue(problems.get(1).startsWith("test/int1:"));
+		  Assert.assertTrue(problems.get(2).startsWith("test/int2:"));
+		  Assert.assertTrue(problems.get(3).startsWith("other/something:"));
+	  }
+  }
+}
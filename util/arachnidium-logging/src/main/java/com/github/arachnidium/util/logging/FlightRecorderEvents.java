@@ -0,0 +1,66 @@
+package com.github.arachnidium.util.logging;
+
+/**
+ * Emits Java Flight Recorder events of {@link Photographer}. Events are
+ * emitted only when <code>jdk.jfr</code> is available (Java 8u262 and later)
+ * and they are enabled by the running recording. Otherwise
+ * {@link #begin(Operation)} returns <code>null</code> and
+ * {@link #end(Object, Object, long)} does nothing.
+ */
+final class FlightRecorderEvents {
+
+	/**
+	 * Stages of taking a screenshot
+	 */
+	static enum Operation {
+		/**
+		 * Getting of a screenshot from the remote end
+		 */
+		SCREENSHOT_CAPTURE,
+		/**
+		 * Decoding of received bytes
+		 */
+		SCREENSHOT_DECODE,
+		/**
+		 * Encoding of the picture and writing of the file
+		 */
+		SCREENSHOT_WRITE;
+	}
+
+	private static final boolean IS_SUPPORTED = isSupported();
+
+	private static boolean isSupported() {
+		try {
+			Class.forName("jdk.jfr.Event", false,
+					FlightRecorderEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private FlightRecorderEvents() {
+		super();
+	}
+
+	/**
+	 * @return the started event or <code>null</code> if it is not recorded
+	 */
+	static Object begin(Operation operation) {
+		if (!IS_SUPPORTED) {
+			return null;
+		}
+		return ScreenshotEvents.start(operation);
+	}
+
+	/**
+	 * Finishes and commits the event which is returned by
+	 * {@link #begin(Operation)}
+	 */
+	static void end(Object event, Object subject, long size) {
+		if (event == null) {
+			return;
+		}
+		ScreenshotEvents.finish(event, subject, size);
+	}
+}
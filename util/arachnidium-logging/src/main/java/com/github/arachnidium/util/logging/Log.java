@@ -370,8 +370,13 @@ public class Log {
 
 	private final static Level info = Level.INFO;
 
-	private static Level commonLevel = resetLogLevel(Configuration.byDefault
+	private static volatile Level commonLevel = resetLogLevel(Configuration.byDefault
 			.getSection(LoggingHelper.class).getLevel());
+	
+	static { // the level is changed when default settings are reloaded
+		Configuration.byDefault.subscribe((config) -> resetLogLevel(config
+				.getSection(LoggingHelper.class).getLevel()), LoggingHelper.class);
+	}
 
 	private static Logger log = Logger.getAnonymousLogger();
 	
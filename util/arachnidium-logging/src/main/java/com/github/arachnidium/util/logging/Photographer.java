@@ -12,6 +12,8 @@ import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+import com.github.arachnidium.util.logging.FlightRecorderEvents.Operation;
+
 /**
  * Takes screenshots by {@link WebDriver} instance
  */
@@ -117,19 +119,28 @@ public final class Photographer {
 
 	private BufferedImage getBufferedImage(byte[] original) throws IOException {
 		BufferedImage buffer = null;
+		Object event = FlightRecorderEvents.begin(Operation.SCREENSHOT_DECODE);
 		try {
 			buffer = ImageIO.read(new ByteArrayInputStream(original));
 			return buffer;
 		} catch (IOException e) {
 			e.printStackTrace();
 			throw e;
+		} finally {
+			FlightRecorderEvents.end(event, format, original.length);
 		}
 	}
 
 	private BufferedImage getImageFromDriver(WebDriver driver)
 			throws IOException {
-		byte[] bytes = ((TakesScreenshot) driver)
-					.getScreenshotAs(OutputType.BYTES);
+		Object event = FlightRecorderEvents.begin(Operation.SCREENSHOT_CAPTURE);
+		byte[] bytes = null;
+		try {
+			bytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+		} finally {
+			FlightRecorderEvents.end(event, driver, bytes == null ? 0
+					: bytes.length);
+		}
 		BufferedImage buffer = getBufferedImage(bytes);
 		return buffer;
 	}
@@ -146,7 +157,13 @@ public final class Photographer {
 		File picForLog = new File(FolderPath + pictureNameByDefault + '_'
 				+ UUID.randomUUID().toString() + "." + format);
 		try {
-			ImageIO.write(imageForLog, format, picForLog);
+			Object event = FlightRecorderEvents
+					.begin(Operation.SCREENSHOT_WRITE);
+			try {
+				ImageIO.write(imageForLog, format, picForLog);
+			} finally {
+				FlightRecorderEvents.end(event, picForLog, picForLog.length());
+			}
 			Log.log(LogLevel, comment, picForLog);
 		} catch (IOException e) {
 			Log.warning("Can't take a screenshot! " + e.getMessage());
@@ -0,0 +1,21 @@
+package com.github.arachnidium.util.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The superclass of Java Flight Recorder events which are emitted by
+ * {@link FlightRecorderEvents}. Subclasses are declared by
+ * {@link ScreenshotEvents}.
+ */
+@Category({ "Arachnidium", "Screenshots" })
+abstract class ScreenshotEvent extends Event {
+	@Label("Subject")
+	String subject;
+
+	@Label("Size")
+	@DataAmount
+	long size;
+}
@@ -0,0 +1,73 @@
+package com.github.arachnidium.util.logging;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import com.github.arachnidium.util.logging.FlightRecorderEvents.Operation;
+
+/**
+ * Java Flight Recorder events which are emitted by
+ * {@link FlightRecorderEvents}. This class is loaded only when
+ * <code>jdk.jfr</code> is available.<br/>
+ * <br/>
+ * Events are not nested in {@link ScreenshotEvent}. JFR fails to instrument
+ * event classes which are nested in their superclass.
+ */
+final class ScreenshotEvents {
+
+	@Name("com.github.arachnidium.ScreenshotCapture")
+	@Label("Screenshot Capture")
+	@Description("Getting of a screenshot from the remote end. The size is the count of received bytes")
+	static final class Capture extends ScreenshotEvent {
+	}
+
+	@Name("com.github.arachnidium.ScreenshotDecode")
+	@Label("Screenshot Decode")
+	@Description("Decoding of received bytes")
+	static final class Decode extends ScreenshotEvent {
+	}
+
+	@Name("com.github.arachnidium.ScreenshotWrite")
+	@Label("Screenshot Write")
+	@Description("Encoding of the picture and writing of the file. The size is the length of the file")
+	static final class Write extends ScreenshotEvent {
+	}
+
+	private ScreenshotEvents() {
+		super();
+	}
+
+	// they are used to check whether events are enabled without allocations
+	private static final ScreenshotEvent[] PROTOTYPES = new ScreenshotEvent[] {
+			new Capture(), new Decode(), new Write() };
+
+	static Object start(Operation operation) {
+		if (!PROTOTYPES[operation.ordinal()].isEnabled()) {
+			return null;
+		}
+		ScreenshotEvent event;
+		switch (operation) {
+		case SCREENSHOT_CAPTURE:
+			event = new Capture();
+			break;
+		case SCREENSHOT_DECODE:
+			event = new Decode();
+			break;
+		default:
+			event = new Write();
+		}
+		event.begin();
+		return event;
+	}
+
+	static void finish(Object started, Object subject, long size) {
+		ScreenshotEvent event = (ScreenshotEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.subject = String.valueOf(subject);
+			event.size = size;
+			event.commit();
+		}
+	}
+}
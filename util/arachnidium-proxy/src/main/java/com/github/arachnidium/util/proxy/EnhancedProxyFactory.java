@@ -17,20 +17,67 @@
 
 package com.github.arachnidium.util.proxy;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.NoOp;
 
 /**
  * The simple factory that makes usage of some CGLIB tools easily
  * 
  * Creates proxy objects by the list of {@link MethodInterceptor} implementations
- * and {@link Enhancer}
+ * and {@link Enhancer}<br/>
+ * <br/>
+ * <code>finalize()</code> of created proxies is never intercepted. Otherwise
+ * interceptors would be invoked by the finalizer thread (e.g. they would
+ * look for elements or switch windows) and objects waiting for finalization
+ * would be retained.
  *
  */
 public abstract class EnhancedProxyFactory {
+	private static final String FINALIZE = "finalize";
+
+	/**
+	 * The first callback is invoked for all methods except
+	 * <code>finalize()</code>. The last callback is {@link NoOp} which is
+	 * invoked for <code>finalize()</code>
+	 */
+	private static final CallbackFilter FINALIZE_FILTER = new CallbackFilter() {
+		@Override
+		public int accept(Method method) {
+			return isFinalize(method) ? 1 : 0;
+		}
+	};
+
+	private static boolean isFinalize(Method method) {
+		return FINALIZE.equals(method.getName())
+				&& method.getParameterTypes().length == 0;
+	}
+
+	/**
+	 * Wraps the given interceptor so that <code>finalize()</code> is not
+	 * intercepted. It is useful for proxies which are created by third-party
+	 * code (e.g. Appium page factory elements) when
+	 * {@link net.sf.cglib.proxy.Factory#setCallback(int, Callback)} is
+	 * available.
+	 *
+	 * @param interceptor Some {@link MethodInterceptor} implementor instance
+	 * @return The {@link MethodInterceptor} which ignores <code>finalize()</code>
+	 */
+	public static MethodInterceptor notFinalizing(
+			final MethodInterceptor interceptor) {
+		return (obj, method, args, proxy) -> {
+			if (isFinalize(method)) {
+				return null;
+			}
+			return interceptor.intercept(obj, method, args, proxy);
+		};
+	}
 	
 	/**
 	 * @param clazz Instance of defined class has to be got from
@@ -79,7 +126,14 @@ public abstract class EnhancedProxyFactory {
 	public static <T extends Object> T getProxy(Enhancer enhancer, Class<T> clazz,
 			Class<?>[] paramClasses, Object[] paramValues,
 			List<MethodInterceptor> interceptors) {
-		enhancer.setCallbacks(interceptors.toArray(new MethodInterceptor[] {}));
+		if (interceptors.size() != 1) {
+			enhancer.setCallbacks(interceptors
+					.toArray(new MethodInterceptor[] {}));
+		} else {
+			enhancer.setCallbacks(new Callback[] { interceptors.get(0),
+					NoOp.INSTANCE });
+			enhancer.setCallbackFilter(FINALIZE_FILTER);
+		}
 		enhancer.setSuperclass(clazz);
 		@SuppressWarnings("unchecked")
 		T proxy = (T) enhancer.create(paramClasses, paramValues);